@@ -0,0 +1,117 @@
+package com.uncode.videojuegos.benchmark;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.uncode.videojuegos.VideojuegosApplication;
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.repository.CategoriaRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+
+/**
+ * Baja y reactivación en cascada de una categoría con todos los videojuegos
+ * del catálogo, frente a dar de baja los videojuegos de a uno. Cada
+ * operación se mide una sola vez por invocación; la baja de a uno no se
+ * puede deshacer barato y corre una única vez por trial.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class CascadaBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class CategoriaGrande {
+
+        @Param("100000")
+        public int videojuegos;
+
+        public ConfigurableApplicationContext context;
+        public CategoriaService categoriaService;
+        public VideojuegoService videojuegoService;
+        public UUID categoriaId;
+        public List<UUID> videojuegoIds;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = new SpringApplicationBuilder(VideojuegosApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .profiles("jmh", "perf")
+                    .run("--videojuegos.perf.videojuegos=" + videojuegos,
+                            "--videojuegos.perf.categorias=1",
+                            "--videojuegos.perf.estudios=1");
+            categoriaService = context.getBean(CategoriaService.class);
+            videojuegoService = context.getBean(VideojuegoService.class);
+            categoriaId = context.getBean(CategoriaRepository.class).findByActivoTrue().iterator().next().getId();
+            videojuegoIds = context.getBean(VideojuegoRepository.class).findByActivoTrue().stream()
+                    .map(Videojuego::getId).toList();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Activa {
+
+        @TearDown(Level.Invocation)
+        public void reactivar(CategoriaGrande estado) throws ServiceException {
+            estado.categoriaService.reactivate(estado.categoriaId);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Inactiva {
+
+        @Setup(Level.Invocation)
+        public void desactivar(CategoriaGrande estado) throws ServiceException {
+            estado.categoriaService.delete(estado.categoriaId);
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public int desactivar(CategoriaGrande estado, Activa activa) throws ServiceException {
+        return estado.categoriaService.delete(estado.categoriaId);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public int reactivar(CategoriaGrande estado, Inactiva inactiva) throws ServiceException {
+        return estado.categoriaService.reactivate(estado.categoriaId);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public int desactivarUnoPorUno(CategoriaGrande estado) throws ServiceException {
+        for (var id : estado.videojuegoIds) {
+            estado.videojuegoService.delete(id);
+        }
+        return estado.videojuegoIds.size();
+    }
+}
@@ -0,0 +1,64 @@
+package com.uncode.videojuegos.benchmark;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.uncode.videojuegos.VideojuegosApplication;
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.repository.CategoriaRepository;
+import com.uncode.videojuegos.model.repository.EstudioRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+
+/**
+ * Levanta la aplicación sobre H2 en memoria con el perfil {@code perf}, que
+ * carga un catálogo sintético del tamaño indicado.
+ */
+@State(Scope.Benchmark)
+public class CatalogoState {
+
+    @Param("10000")
+    public int videojuegos;
+
+    @Param("50")
+    public int categorias;
+
+    @Param("200")
+    public int estudios;
+
+    public ConfigurableApplicationContext context;
+    public List<UUID> videojuegoIds;
+    public UUID categoriaId;
+    public UUID estudioId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(VideojuegosApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("jmh", "perf")
+                .run("--videojuegos.perf.videojuegos=" + videojuegos,
+                        "--videojuegos.perf.categorias=" + categorias,
+                        "--videojuegos.perf.estudios=" + estudios);
+        videojuegoIds = bean(VideojuegoRepository.class).findByActivoTrue().stream().map(Videojuego::getId).toList();
+        categoriaId = bean(CategoriaRepository.class).findByActivoTrue().iterator().next().getId();
+        estudioId = bean(EstudioRepository.class).findByActivoTrue().iterator().next().getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> tipo) {
+        return context.getBean(tipo);
+    }
+}
@@ -0,0 +1,29 @@
+package com.uncode.videojuegos.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoriaServiceBenchmark {
+
+    @Benchmark
+    public Set<Categoria> getAll(CatalogoState catalogo) throws ServiceException {
+        return catalogo.bean(CategoriaService.class).getAll();
+    }
+}
@@ -0,0 +1,83 @@
+package com.uncode.videojuegos.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.uncode.videojuegos.VideojuegosApplication;
+
+/**
+ * Tiempo hasta el primer byte y hasta el final de {@code /estudios}, que se
+ * renderiza por partes. Con el listado por lotes el primer byte no debería
+ * moverse al subir {@code estudios}; el total sí, en proporción a las filas.
+ * Para ver lo asignado por fila, correr con {@code -prof gc}.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListadoPorPartesBenchmark {
+
+    @Param({ "1000", "20000" })
+    public int estudios;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient cliente;
+    private HttpRequest peticion;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(VideojuegosApplication.class)
+                .profiles("jmh", "perf")
+                .run("--server.port=0",
+                        "--videojuegos.perf.videojuegos=1000",
+                        "--videojuegos.perf.categorias=50",
+                        "--videojuegos.perf.estudios=" + estudios);
+        var base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        peticion = HttpRequest.newBuilder(base.resolve("/estudios")).GET().build();
+        cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int primerByte() throws IOException, InterruptedException {
+        var respuesta = cliente.send(peticion, HttpResponse.BodyHandlers.ofInputStream());
+        try (var cuerpo = respuesta.body()) {
+            return cuerpo.read();
+        }
+    }
+
+    @Benchmark
+    public long completo() throws IOException, InterruptedException {
+        var respuesta = cliente.send(peticion, HttpResponse.BodyHandlers.ofInputStream());
+        try (var cuerpo = respuesta.body()) {
+            return cuerpo.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.uncode.videojuegos.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.uncode.videojuegos.VideojuegosApplication;
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+
+/**
+ * Levanta la aplicación con Tomcat en un puerto libre, con hilos de plataforma
+ * o con el perfil {@code virtual}, y la carga por HTTP con más clientes
+ * concurrentes que hilos tiene el pool por defecto de Tomcat (200). JMH
+ * informa el throughput y, en modo SampleTime, los percentiles de latencia
+ * (p0.99 incluido).
+ *
+ * El modo virtual requiere Java 21:
+ * {@code mvn -Pjmh,java21 verify -DskipTests -Djmh.include=ThreadModeLoadBenchmark}.
+ * Usa H2 en memoria salvo que se indique otra base con DB_URL, DB_USER y
+ * DB_PASSWORD; contra una base real es donde se nota la espera en JDBC.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(256)
+@State(Scope.Benchmark)
+public class ThreadModeLoadBenchmark {
+
+    @Param({ "platform", "virtual" })
+    public String modo;
+
+    @Param("10000")
+    public int videojuegos;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient cliente;
+    private URI base;
+    private List<UUID> videojuegoIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var perfiles = new ArrayList<>(List.of("jmh", "perf"));
+        if (modo.equals("virtual")) {
+            if (Runtime.version().feature() < 21)
+                throw new IllegalStateException("El modo virtual requiere Java 21 (mvn -Pjmh,java21 con un JDK 21)");
+            perfiles.add("virtual");
+        }
+        var argumentos = new ArrayList<>(List.of("--server.port=0",
+                "--videojuegos.perf.videojuegos=" + videojuegos,
+                "--videojuegos.perf.categorias=50",
+                "--videojuegos.perf.estudios=200"));
+        if (System.getenv("DB_URL") != null) {
+            argumentos.add("--spring.datasource.url=" + System.getenv("DB_URL"));
+            argumentos.add("--spring.datasource.username=" + System.getenv("DB_USER"));
+            argumentos.add("--spring.datasource.password=" + System.getenv("DB_PASSWORD"));
+        }
+        context = new SpringApplicationBuilder(VideojuegosApplication.class)
+                .profiles(perfiles.toArray(String[]::new))
+                .run(argumentos.toArray(String[]::new));
+        base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        videojuegoIds = context.getBean(VideojuegoRepository.class).findByActivoTrue().stream()
+                .map(Videojuego::getId).toList();
+        cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Respuestas fallidas (distintas de 200 o sin respuesta), que JMH informa
+     * como una métrica secundaria junto al throughput: con el pool de
+     * conexiones saturado fallan rápido y no deben contarse como aciertos.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Errores {
+        public long errores;
+    }
+
+    @Benchmark
+    public int catalogo(Errores errores) throws InterruptedException {
+        return get("/videojuegos", errores);
+    }
+
+    @Benchmark
+    public int detalle(Errores errores) throws InterruptedException {
+        var id = videojuegoIds.get(ThreadLocalRandom.current().nextInt(videojuegoIds.size()));
+        return get("/videojuegos/" + id, errores);
+    }
+
+    private int get(String ruta, Errores errores) throws InterruptedException {
+        try {
+            var respuesta = cliente.send(HttpRequest.newBuilder(base.resolve(ruta)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            if (respuesta.statusCode() != 200)
+                errores.errores++;
+            return respuesta.statusCode();
+        } catch (IOException e) {
+            errores.errores++;
+            return 0;
+        }
+    }
+}
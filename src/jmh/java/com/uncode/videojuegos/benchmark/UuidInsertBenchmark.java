@@ -0,0 +1,103 @@
+package com.uncode.videojuegos.benchmark;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.uncode.videojuegos.model.entity.id.UuidV7Generator;
+
+/**
+ * Inserta {@code filas} por iteración en una tabla con clave binary(16), sin
+ * calentamiento, para que cada iteración muestre el costo con la tabla más
+ * grande: con v4 el tiempo crece a medida que el índice deja de entrar en el
+ * buffer pool; con v7 las inserciones siempre caen en la última página.
+ *
+ * Usa H2 en memoria salvo que se indique otra base con DB_URL, DB_USER y
+ * DB_PASSWORD (las mismas variables que la aplicación), por ejemplo un MySQL
+ * con un innodb_buffer_pool_size chico.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 12)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidInsertBenchmark {
+
+    private static final int LOTE = 1_000;
+
+    @Param({ "v4", "v7" })
+    public String version;
+
+    @Param("100000")
+    public int filas;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                Objects.requireNonNullElse(System.getenv("DB_URL"), "jdbc:h2:mem:uuid;DB_CLOSE_DELAY=-1"),
+                Objects.requireNonNullElse(System.getenv("DB_USER"), "sa"),
+                Objects.requireNonNullElse(System.getenv("DB_PASSWORD"), ""));
+        try (var statement = connection.createStatement()) {
+            statement.execute("drop table if exists uuid_benchmark");
+            statement.execute("""
+                    create table uuid_benchmark (
+                        id binary(16) not null primary key,
+                        nombre varchar(255) not null,
+                        precio float not null)""");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (var statement = connection.createStatement()) {
+            statement.execute("drop table uuid_benchmark");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void insertar() throws SQLException {
+        var buffer = ByteBuffer.allocate(16);
+        try (var insert = connection.prepareStatement(
+                "insert into uuid_benchmark (id, nombre, precio) values (?, ?, ?)")) {
+            for (int i = 1; i <= filas; i++) {
+                var id = "v7".equals(version) ? UuidV7Generator.next() : UUID.randomUUID();
+                buffer.clear();
+                buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+                insert.setBytes(1, buffer.array().clone());
+                insert.setString(2, "Videojuego " + i);
+                insert.setFloat(3, i % 100);
+                insert.addBatch();
+                if (i % LOTE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.uncode.videojuegos.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+
+/**
+ * Rechazo de formularios con una mayoría de entradas inválidas. Compara la
+ * validación anterior (excepción con traza, relanzada por el servicio y
+ * capturada en el controlador) con la misma excepción sin traza y con
+ * {@code Validacion}, que no lanza. {@code profundidad} agrega marcos de pila
+ * para acercarse a la de una petición real, que es lo que encarece la traza.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidacionBenchmark {
+
+    private static final int ENTRADAS = 1024;
+
+    @Param({ "90" })
+    public int porcentajeInvalido;
+
+    @Param({ "10", "120" })
+    public int profundidad;
+
+    private final VideojuegoService service = new VideojuegoService();
+    private Entrada[] entradas;
+    private int siguiente;
+
+    private record Entrada(String nombre, String rutaimg, float precio, short cantidad, String descripcion) {
+    }
+
+    /** Excepción como la de antes: con traza. */
+    private static class ExcepcionConTraza extends Exception {
+        ExcepcionConTraza(String msg) {
+            super(msg);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        entradas = new Entrada[ENTRADAS];
+        for (var i = 0; i < ENTRADAS; i++) {
+            var invalida = i % 100 < porcentajeInvalido;
+            entradas[i] = switch (invalida ? i % 4 : -1) {
+                case 0 -> new Entrada(" ", "img.jpg", 10f, (short) 1, "descripcion");
+                case 1 -> new Entrada("nombre", "img.jpg", -1f, (short) 1, "descripcion");
+                case 2 -> new Entrada("nombre", "img.jpg", 10f, (short) 1, null);
+                case 3 -> new Entrada("", "", -1f, (short) -1, "");
+                default -> new Entrada("nombre", "img.jpg", 10f, (short) 1, "descripcion");
+            };
+        }
+    }
+
+    @Benchmark
+    public String excepcionConTraza() {
+        var entrada = entradas[siguiente++ & (ENTRADAS - 1)];
+        return enProfundidad(profundidad, () -> {
+            try {
+                try {
+                    validarConTraza(entrada);
+                } catch (ExcepcionConTraza e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new ExcepcionConTraza(ServiceExceptionMessages.ANY);
+                }
+                return null;
+            } catch (ExcepcionConTraza e) {
+                return e.getMessage();
+            }
+        });
+    }
+
+    @Benchmark
+    public String excepcionSinTraza() {
+        var entrada = entradas[siguiente++ & (ENTRADAS - 1)];
+        return enProfundidad(profundidad, () -> {
+            try {
+                try {
+                    service.validar(entrada.nombre(), entrada.rutaimg(), entrada.precio(), entrada.cantidad(),
+                            entrada.descripcion()).orThrow();
+                } catch (ServiceException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new ServiceException(ServiceExceptionMessages.ANY);
+                }
+                return null;
+            } catch (ServiceException e) {
+                return e.getMessage();
+            }
+        });
+    }
+
+    @Benchmark
+    public String validacion() {
+        var entrada = entradas[siguiente++ & (ENTRADAS - 1)];
+        return enProfundidad(profundidad, () -> service.validar(entrada.nombre(), entrada.rutaimg(),
+                entrada.precio(), entrada.cantidad(), entrada.descripcion()).getMensaje());
+    }
+
+    /**
+     * La validación que reemplaza {@code Validacion}, tal como estaba: lanza en
+     * el primer error y detecta los nulos capturando el NPE.
+     */
+    private static void validarConTraza(Entrada entrada) throws ExcepcionConTraza {
+        try {
+            if (entrada.nombre().isBlank())
+                throw new ExcepcionConTraza(ServiceExceptionMessages.blank(Videojuego.class, "nombre"));
+            if (entrada.precio() < 0)
+                throw new ExcepcionConTraza(ServiceExceptionMessages.nonNegative("precio"));
+            if (entrada.cantidad() < 0)
+                throw new ExcepcionConTraza(ServiceExceptionMessages.nonNegative("cantidad"));
+            if (entrada.rutaimg().isBlank())
+                throw new ExcepcionConTraza(ServiceExceptionMessages.blank(Videojuego.class, "rutaimg"));
+            if (entrada.descripcion().isBlank())
+                throw new ExcepcionConTraza(ServiceExceptionMessages.blank(Videojuego.class, "descripcion"));
+        } catch (ExcepcionConTraza e) {
+            throw e;
+        } catch (NullPointerException e) {
+            throw new ExcepcionConTraza(ServiceExceptionMessages.$null(Videojuego.class, "nombre"));
+        } catch (Exception e) {
+            throw new ExcepcionConTraza(ServiceExceptionMessages.ANY);
+        }
+    }
+
+    private static String enProfundidad(int marcos, Supplier<String> accion) {
+        return marcos == 0 ? accion.get() : enProfundidad(marcos - 1, accion);
+    }
+}
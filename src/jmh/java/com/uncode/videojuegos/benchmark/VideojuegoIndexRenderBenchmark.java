@@ -0,0 +1,62 @@
+package com.uncode.videojuegos.benchmark;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import com.uncode.videojuegos.model.dto.FiltroVideojuego;
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.EstudioService;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class VideojuegoIndexRenderBenchmark {
+
+    private SpringTemplateEngine templateEngine;
+    private JakartaServletWebApplication aplicacion;
+    private Map<String, Object> modelo;
+
+    @Setup
+    public void setUp(CatalogoState catalogo) throws ServiceException {
+        templateEngine = catalogo.bean(SpringTemplateEngine.class);
+        aplicacion = JakartaServletWebApplication.buildApplication(new MockServletContext());
+        var resultado = catalogo.bean(VideojuegoService.class).filter(FiltroVideojuego.VACIO, null, null,
+                VideojuegoService.TAMANIO_PAGINA);
+        modelo = Map.of("videojuegos", resultado.getPagina().getContenido(),
+                "pagina", resultado.getPagina(),
+                "filtro", resultado.getFiltro(),
+                "facetas", resultado.getFacetas(),
+                "categorias", catalogo.bean(CategoriaService.class).getAll(),
+                "estudios", catalogo.bean(EstudioService.class).getAll());
+    }
+
+    @Benchmark
+    public String renderIndex() {
+        var request = new MockHttpServletRequest("GET", "/videojuegos");
+        var exchange = aplicacion.buildExchange(request, new MockHttpServletResponse());
+        return templateEngine.process("videojuego/index", new WebContext(exchange, Locale.ROOT, modelo));
+    }
+}
@@ -0,0 +1,102 @@
+package com.uncode.videojuegos.benchmark;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.uncode.videojuegos.model.dto.FiltroVideojuego;
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.service.VideojuegoExportService;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exportacion.FormatoExportacion;
+import com.uncode.videojuegos.model.service.pagina.CatalogoFiltrado;
+import com.uncode.videojuegos.model.service.pagina.Pagina;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class VideojuegoServiceBenchmark {
+
+    private VideojuegoService service;
+    private int siguiente;
+
+    @Setup
+    public void setUp(CatalogoState catalogo) {
+        service = catalogo.bean(VideojuegoService.class);
+    }
+
+    @Benchmark
+    public UUID create(CatalogoState catalogo) throws ServiceException {
+        return service.create("Benchmark " + UUID.randomUUID(), "https://picsum.photos/300/400", 19.99f,
+                (short) 10, "Creado por el benchmark", false, LocalDate.now(), catalogo.categoriaId,
+                catalogo.estudioId);
+    }
+
+    @Benchmark
+    public void update(CatalogoState catalogo) throws ServiceException {
+        var i = siguiente++ % catalogo.videojuegoIds.size();
+        service.update(catalogo.videojuegoIds.get(i), "Videojuego actualizado %07d".formatted(i),
+                "https://picsum.photos/300/400", i % 100, (short) (i % 50), "Actualizado por el benchmark",
+                i % 2 == 0, LocalDate.now(), catalogo.categoriaId, catalogo.estudioId);
+    }
+
+    @Benchmark
+    public Set<Videojuego> getAll() throws ServiceException {
+        return service.getAll();
+    }
+
+    @Benchmark
+    public Pagina<Videojuego> getPage() throws ServiceException {
+        return service.getPage(null, null, VideojuegoService.TAMANIO_PAGINA);
+    }
+
+    @Benchmark
+    public List<Videojuego> search() throws ServiceException {
+        return service.search("videojuego 00042", VideojuegoService.TAMANIO_PAGINA);
+    }
+
+    @Benchmark
+    public CatalogoFiltrado filter(CatalogoState catalogo) throws ServiceException {
+        var filtro = FiltroVideojuego.builder()
+                .categoriaId(catalogo.categoriaId)
+                .oferta(true)
+                .precioMax(50f)
+                .build();
+        return service.filter(filtro, null, null, VideojuegoService.TAMANIO_PAGINA);
+    }
+
+    /**
+     * Repone y reserva una unidad del mismo título; con {@code -t} hilos mide
+     * la contención sobre la fila.
+     */
+    @Benchmark
+    public void releaseReserve(CatalogoState catalogo) throws ServiceException {
+        var id = catalogo.videojuegoIds.get(0);
+        service.release(id, (short) 1);
+        service.reserve(id, (short) 1);
+    }
+
+    @Benchmark
+    public long exportCsv(CatalogoState catalogo) throws ServiceException {
+        return catalogo.bean(VideojuegoExportService.class)
+                .export(OutputStream.nullOutputStream(), FormatoExportacion.CSV, null, null, null);
+    }
+}
@@ -0,0 +1,34 @@
+package com.uncode.videojuegos.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Las escrituras de los servicios vacían el caché dentro de su transacción.
+ * Si se vaciara ahí mismo, una lectura concurrente que no encuentra la
+ * entrada leería la fila todavía sin confirmar, la volvería a guardar y
+ * quedaría vieja (con su {@code version} vieja, que hace fallar cada edición)
+ * hasta que expire. Envolviendo el caché de Boot, los {@code put} y los
+ * vaciados se aplican después del commit, y no se aplican si hay rollback.
+ */
+@Configuration
+public class CacheTransaccional {
+
+    @Bean
+    public static BeanPostProcessor cacheDespuesDelCommit() {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String nombre) {
+                if (bean instanceof CacheManager cacheManager
+                        && !(bean instanceof TransactionAwareCacheManagerProxy)) {
+                    return new TransactionAwareCacheManagerProxy(cacheManager);
+                }
+                return bean;
+            }
+        };
+    }
+}
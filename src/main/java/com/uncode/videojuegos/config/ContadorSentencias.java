@@ -0,0 +1,44 @@
+package com.uncode.videojuegos.config;
+
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cuenta las sentencias SQL que Hibernate prepara en el hilo actual mientras
+ * hay una cuenta abierta; {@link SentenciasPorPeticion} abre una por petición.
+ */
+@Component
+public class ContadorSentencias implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> CUENTA = new ThreadLocal<>();
+
+    public static void iniciar() {
+        CUENTA.set(new int[1]);
+    }
+
+    /**
+     * Cierra la cuenta del hilo y devuelve cuántas sentencias se prepararon.
+     */
+    public static int detener() {
+        var cuenta = CUENTA.get();
+        CUENTA.remove();
+        return cuenta == null ? 0 : cuenta[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        var cuenta = CUENTA.get();
+        if (cuenta != null)
+            cuenta[0]++;
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+}
@@ -0,0 +1,37 @@
+package com.uncode.videojuegos.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Elige la base en el momento de abrir la conexión: las transacciones de
+ * sólo lectura van a la réplica y todo lo demás a la primaria. Una petición
+ * que abrió una transacción de escritura queda marcada y sus lecturas
+ * siguientes también van a la primaria, para que vea lo que acaba de
+ * escribir aunque la réplica venga atrasada. Necesita estar detrás de un
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * sin él la conexión se pide antes de que la transacción se marque como de
+ * sólo lectura.
+ */
+public class EnrutadorLecturas extends AbstractRoutingDataSource {
+
+    public static final String PRIMARIA = "primaria";
+    public static final String REPLICA = "replica";
+
+    private static final String ESCRIBIO = EnrutadorLecturas.class.getName() + ".escribio";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        var peticion = RequestContextHolder.getRequestAttributes();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            var escribio = peticion != null && peticion.getAttribute(ESCRIBIO, RequestAttributes.SCOPE_REQUEST) != null;
+            return escribio ? PRIMARIA : REPLICA;
+        }
+        if (peticion != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+            peticion.setAttribute(ESCRIBIO, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        return PRIMARIA;
+    }
+}
@@ -0,0 +1,51 @@
+package com.uncode.videojuegos.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Con el perfil {@code replica} hay dos pools: el de siempre
+ * ({@code spring.datasource.*}) para la primaria y otro
+ * ({@code videojuegos.replica.*}) para la réplica. El resto de la aplicación
+ * ve un único {@link DataSource} que reparte las conexiones con
+ * {@link EnrutadorLecturas}.
+ */
+@Configuration
+@Profile("replica")
+public class FuentesDeDatos {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaria(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("videojuegos.replica")
+    public HikariDataSource replica() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaria") DataSource primaria,
+            @Qualifier("replica") DataSource replica) {
+        var enrutador = new EnrutadorLecturas();
+        enrutador.setTargetDataSources(Map.of(EnrutadorLecturas.PRIMARIA, primaria, EnrutadorLecturas.REPLICA, replica));
+        enrutador.setDefaultTargetDataSource(primaria);
+        enrutador.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(enrutador);
+    }
+}
@@ -0,0 +1,100 @@
+package com.uncode.videojuegos.config;
+
+import java.util.Optional;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import com.uncode.videojuegos.model.service.exception.ConflictException;
+import com.uncode.videojuegos.model.service.exception.NotFoundException;
+import com.uncode.videojuegos.model.service.exception.ValidationException;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Una observación por llamada a los servicios del catálogo y a los
+ * repositorios: da un timer {@code videojuegos.servicio} o
+ * {@code videojuegos.repositorio} por clase, método y resultado, y un span
+ * cuando hay un tracer. Envuelve al caché y a la transacción, así que mide lo
+ * que ve quien llama, commit incluido.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ObservacionCapas {
+
+    public static final String SERVICIO = "videojuegos.servicio";
+    public static final String REPOSITORIO = "videojuegos.repositorio";
+
+    static final String EXITO = "exito";
+    static final String VALIDACION = "validacion";
+    static final String NO_ENCONTRADO = "no_encontrado";
+    static final String CONFLICTO = "conflicto";
+    static final String ERROR = "error";
+
+    private static final ClassValue<String> CLASES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> tipo) {
+            for (var interfaz : tipo.getInterfaces()) {
+                if (interfaz.getPackageName().startsWith("com.uncode.videojuegos"))
+                    return interfaz.getSimpleName();
+            }
+            return tipo.getSimpleName();
+        }
+    };
+
+    @Autowired
+    private ObservationRegistry registry;
+
+    @Around("execution(public * com.uncode.videojuegos.model.service.VideojuegoService.*(..))"
+            + " || execution(public * com.uncode.videojuegos.model.service.CategoriaService.*(..))"
+            + " || execution(public * com.uncode.videojuegos.model.service.EstudioService.*(..))")
+    public Object servicio(ProceedingJoinPoint punto) throws Throwable {
+        return observar(SERVICIO, punto.getSignature().getDeclaringType().getSimpleName(), punto);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object repositorio(ProceedingJoinPoint punto) throws Throwable {
+        return observar(REPOSITORIO, CLASES.get(punto.getThis().getClass()), punto);
+    }
+
+    private Object observar(String nombre, String clase, ProceedingJoinPoint punto) throws Throwable {
+        var metodo = punto.getSignature().getName();
+        var observacion = Observation.createNotStarted(nombre, registry)
+                .contextualName(clase + "." + metodo)
+                .lowCardinalityKeyValue("clase", clase)
+                .lowCardinalityKeyValue("metodo", metodo)
+                .start();
+        try (var scope = observacion.openScope()) {
+            var valor = punto.proceed();
+            observacion.lowCardinalityKeyValue("resultado",
+                    valor instanceof Optional<?> opcional && opcional.isEmpty() ? NO_ENCONTRADO : EXITO);
+            return valor;
+        } catch (Throwable e) {
+            var resultado = resultado(e);
+            observacion.lowCardinalityKeyValue("resultado", resultado);
+            if (resultado.equals(ERROR))
+                observacion.error(e);
+            throw e;
+        } finally {
+            observacion.stop();
+        }
+    }
+
+    static String resultado(Throwable e) {
+        if (e instanceof ValidationException)
+            return VALIDACION;
+        if (e instanceof NotFoundException)
+            return NO_ENCONTRADO;
+        if (e instanceof ConflictException || e instanceof ObjectOptimisticLockingFailureException)
+            return CONFLICTO;
+        return ERROR;
+    }
+}
@@ -0,0 +1,130 @@
+package com.uncode.videojuegos.config;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.entity.Estudio;
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.busqueda.IndexadorVideojuegos;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Carga un catálogo sintético al arrancar con el perfil {@code perf}, si la
+ * tabla de videojuegos está vacía. Corre después de que se construyó el
+ * índice de búsqueda, así que lo reconstruye al terminar.
+ */
+@Component
+@Profile("perf")
+public class PerfDataSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PerfDataSeeder.class);
+
+    @Value("${videojuegos.perf.categorias}")
+    private int categorias;
+    @Value("${videojuegos.perf.estudios}")
+    private int estudios;
+    @Value("${videojuegos.perf.videojuegos}")
+    private int videojuegos;
+    @Value("${videojuegos.perf.lote}")
+    private int lote;
+    @Value("${videojuegos.perf.semilla}")
+    private long semilla;
+    @Value("${videojuegos.archivo.retencion}")
+    private Duration retencion;
+
+    @Autowired
+    private VideojuegoRepository repository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private IndexadorVideojuegos indexador;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (repository.count() > 0) {
+            log.info("Catálogo existente, no se cargan datos de rendimiento");
+            return;
+        }
+        var inicio = System.nanoTime();
+        var random = new Random(semilla);
+        var categoriaIds = persistir(categorias, i -> Categoria.builder().nombre("Categoría %04d".formatted(i)).build())
+                .stream().map(Categoria::getId).toList();
+        var estudioIds = persistir(estudios, i -> Estudio.builder().nombre("Estudio %05d".formatted(i)).build())
+                .stream().map(Estudio::getId).toList();
+        var hoy = LocalDate.now();
+        var ahora = LocalDateTime.now();
+        // Las bajas se reparten en el doble de la retención: la mitad ya se puede archivar
+        var diasBaja = (int) Math.max(1, retencion.toDays() * 2);
+        for (int desde = 0; desde < videojuegos; desde += lote) {
+            var hasta = Math.min(desde + lote, videojuegos);
+            var primero = desde;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = primero; i < hasta; i++) {
+                    var activo = random.nextInt(20) != 0;
+                    entityManager.persist(Videojuego.builder()
+                            .nombre("Videojuego %07d".formatted(i))
+                            .rutaimg("https://picsum.photos/seed/" + i + "/300/400")
+                            .precio(random.nextInt(10_000) / 100f)
+                            .cantidad((short) random.nextInt(500))
+                            .descripcion("Descripción del videojuego " + i)
+                            .oferta(random.nextInt(10) == 0)
+                            .lanzamiento(hoy.minusDays(random.nextInt(365 * 30)))
+                            .activo(activo)
+                            .fechaBaja(activo ? null : ahora.minusDays(random.nextInt(diasBaja)))
+                            .categoria(entityManager.getReference(Categoria.class,
+                                    categoriaIds.get(random.nextInt(categoriaIds.size()))))
+                            .estudio(entityManager.getReference(Estudio.class,
+                                    estudioIds.get(random.nextInt(estudioIds.size()))))
+                            .build());
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            if (hasta % 100_000 == 0) {
+                log.info("{} videojuegos cargados", hasta);
+            }
+        }
+        log.info("Catálogo de rendimiento cargado: {} categorías, {} estudios, {} videojuegos en {} s", categorias,
+                estudios, videojuegos, (System.nanoTime() - inicio) / 1_000_000_000);
+        indexador.rebuild();
+    }
+
+    private <T> List<T> persistir(int cantidad, IntFunction<T> entidad) {
+        var entidades = new ArrayList<T>(cantidad);
+        for (int desde = 0; desde < cantidad; desde += lote) {
+            var hasta = Math.min(desde + lote, cantidad);
+            var primero = desde;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = primero; i < hasta; i++) {
+                    var e = entidad.apply(i);
+                    entityManager.persist(e);
+                    entidades.add(e);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return entidades;
+    }
+}
@@ -0,0 +1,73 @@
+package com.uncode.videojuegos.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Los estáticos se piden con el hash del contenido en el nombre
+ * ({@code app-<md5>.css}), que la cadena de recursos agrega al renderizar las
+ * plantillas, o dentro de un directorio con el hash de su contenido
+ * ({@code fuentes/<md5>/}), que arma el build: esas URL no cambian nunca de
+ * contenido y se cachean un año sin revalidar. Las URL sin hash siguen
+ * funcionando, pero se revalidan siempre.
+ * <p>
+ * Los estáticos se mapean sólo bajo sus directorios y no bajo {@code /**}:
+ * la cadena reescribe cada URL que arma una plantilla, y con el mapeo global
+ * cada enlace a una página, fila por fila, terminaba en una búsqueda del
+ * recurso en el classpath.
+ */
+@Configuration
+public class RecursosVersionados implements WebMvcConfigurer, HandlerInterceptor {
+
+    private static final Pattern VERSIONADO = Pattern.compile("-[0-9a-f]{32}\\.[^/]+$|/[0-9a-f]{32}/");
+
+    private static final String INMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable()
+            .getHeaderValue();
+
+    private static final String REVALIDAR = CacheControl.noCache().getHeaderValue();
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (var directorio : List.of("css", "js", "img")) {
+            registry.addResourceHandler("/" + directorio + "/**")
+                    .addResourceLocations("classpath:/static/" + directorio + "/")
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+        registry.addResourceHandler("/fuentes/**")
+                .addResourceLocations("classpath:/static/fuentes/")
+                .resourceChain(true);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof ResourceHttpRequestHandler) {
+            var versionado = VERSIONADO.matcher(request.getRequestURI()).find();
+            response.setHeader(HttpHeaders.CACHE_CONTROL, versionado ? INMUTABLE : REVALIDAR);
+        }
+        return true;
+    }
+}
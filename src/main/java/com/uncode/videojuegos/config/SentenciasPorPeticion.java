@@ -0,0 +1,52 @@
+package com.uncode.videojuegos.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Registra cuántas sentencias JDBC hizo cada petición, por método y ruta, en
+ * {@code videojuegos.peticion.sentencias}; también queda como atributo del
+ * span de la petición. Sirve para detectar N+1 y rutas que dejan de usar el
+ * caché.
+ */
+@Component
+public class SentenciasPorPeticion extends OncePerRequestFilter {
+
+    public static final String METRICA = "videojuegos.peticion.sentencias";
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContadorSentencias.iniciar();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            var sentencias = ContadorSentencias.detener();
+            var ruta = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(METRICA)
+                    .baseUnit("sentencias")
+                    .tag("method", request.getMethod())
+                    .tag("uri", ruta == null ? "UNKNOWN" : ruta.toString())
+                    .register(registry)
+                    .record(sentencias);
+            ServerHttpObservationFilter.findObservationContext(request).ifPresent(contexto -> contexto
+                    .addHighCardinalityKeyValue(KeyValue.of("jdbc.sentencias", String.valueOf(sentencias))));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.uncode.videojuegos.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.uncode.videojuegos.model.service.archivo.Archivador;
+import com.uncode.videojuegos.model.service.archivo.ResultadoArchivo;
+import com.uncode.videojuegos.model.service.exception.ConflictException;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+
+/**
+ * {@code GET /actuator/archivo} simula el archivado y {@code POST} lo lanza
+ * sin esperar a la próxima ejecución programada.
+ */
+@Component
+@Endpoint(id = "archivo")
+public class ArchivoEndpoint {
+
+    @Autowired
+    private Archivador archivador;
+
+    @ReadOperation
+    public ResultadoArchivo simular() {
+        return archivador.simular();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<ResultadoArchivo> archivar() throws ServiceException {
+        try {
+            return new WebEndpointResponse<>(archivador.archivar());
+        } catch (ConflictException e) {
+            return new WebEndpointResponse<>(HttpStatus.CONFLICT.value());
+        }
+    }
+}
@@ -14,8 +14,12 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.uncode.videojuegos.model.entity.Categoria;
 import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.exception.ConflictException;
 import com.uncode.videojuegos.model.service.exception.ServiceException;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 @Controller
 @RequestMapping("/categorias")
 public class CategoriaController {
@@ -23,14 +27,22 @@ public class CategoriaController {
     @Autowired
     private CategoriaService service;
 
+    @Autowired
+    private RespuestaCondicional respuestaCondicional;
+
     @GetMapping
-    public String getCategorias(Model model) {
+    public String getCategorias(Model model, HttpServletRequest request, HttpServletResponse response) {
+        if (respuestaCondicional.notModified(request, response, Categoria.class)) {
+            return null;
+        }
         try {
-            var categorias = service.getAll();
-            model.addAttribute("categorias", categorias);
+            // Sólo el primer lote se lee acá; el resto mientras se renderiza, y la tabla sale por partes
+            model.addAttribute("categorias", service.iterateAll());
         } catch (ServiceException e) {
+            respuestaCondicional.noStore(response);
             model.addAttribute("error", e.getMessage());
         } catch (Exception e) {
+            respuestaCondicional.noStore(response);
             model.addAttribute("error", "Ha ocurrido un error inesperado");
         }
         return "categoria/index";
@@ -47,9 +59,14 @@ public class CategoriaController {
     public String postCategoria(@RequestParam String nombre, Model model,
             RedirectAttributes redirectAttributes) {
         try {
-            var id = service.create(nombre);
-            redirectAttributes.addFlashAttribute("success", "Categoría creada correctamente");
-            return "redirect:/categorias/" + id;
+            var validacion = service.validar(nombre);
+            if (validacion.isValida()) {
+                var id = service.create(nombre);
+                redirectAttributes.addFlashAttribute("success", "Categoría creada correctamente");
+                return "redirect:/categorias/" + id;
+            }
+            model.addAttribute("error", validacion.getMensaje());
+            model.addAttribute("errores", validacion.getErrores());
         } catch (ServiceException e) {
             model.addAttribute("error", e.getMessage());
         } catch (Exception e) {
@@ -76,11 +93,20 @@ public class CategoriaController {
     }
 
     @PostMapping("/{id}")
-    public String putCategoria(@PathVariable UUID id, @RequestParam String nombre, Model model,
+    public String putCategoria(@PathVariable UUID id, @RequestParam String nombre,
+            @RequestParam(required = false) Long version, Model model,
             RedirectAttributes redirectAttributes) {
         try {
-            service.update(id, nombre);
-            redirectAttributes.addFlashAttribute("success", "Categoría actualizada correctamente");
+            var validacion = service.validar(nombre);
+            if (validacion.isValida()) {
+                service.update(id, nombre, version);
+                redirectAttributes.addFlashAttribute("success", "Categoría actualizada correctamente");
+                return "redirect:/categorias/" + id;
+            }
+            model.addAttribute("error", validacion.getMensaje());
+            model.addAttribute("errores", validacion.getErrores());
+        } catch (ConflictException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
             return "redirect:/categorias/" + id;
         } catch (ServiceException e) {
             model.addAttribute("error", e.getMessage());
@@ -93,8 +119,23 @@ public class CategoriaController {
     @PostMapping("/{id}/delete")
     public String deleteCategoria(@PathVariable UUID id, Model model, RedirectAttributes redirectAttributes) {
         try {
-            service.delete(id);
-            redirectAttributes.addFlashAttribute("success", "Categoria eliminada correctamente");
+            var videojuegos = service.delete(id);
+            redirectAttributes.addFlashAttribute("success",
+                    "Categoría eliminada correctamente junto con " + videojuegos + " videojuegos");
+        } catch (ServiceException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Ha ocurrido un error inesperado");
+        }
+        return "redirect:/categorias";
+    }
+
+    @PostMapping("/{id}/reactivar")
+    public String reactivarCategoria(@PathVariable UUID id, RedirectAttributes redirectAttributes) {
+        try {
+            var videojuegos = service.reactivate(id);
+            redirectAttributes.addFlashAttribute("success",
+                    "Categoría reactivada correctamente junto con " + videojuegos + " videojuegos");
         } catch (ServiceException e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
         } catch (Exception e) {
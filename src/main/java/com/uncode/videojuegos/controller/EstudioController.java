@@ -14,8 +14,12 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.uncode.videojuegos.model.entity.Estudio;
 import com.uncode.videojuegos.model.service.EstudioService;
+import com.uncode.videojuegos.model.service.exception.ConflictException;
 import com.uncode.videojuegos.model.service.exception.ServiceException;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 @Controller
 @RequestMapping("/estudios")
 public class EstudioController {
@@ -23,14 +27,22 @@ public class EstudioController {
     @Autowired
     private EstudioService service;
 
+    @Autowired
+    private RespuestaCondicional respuestaCondicional;
+
     @GetMapping
-    public String getEstudios(Model model) {
+    public String getEstudios(Model model, HttpServletRequest request, HttpServletResponse response) {
+        if (respuestaCondicional.notModified(request, response, Estudio.class)) {
+            return null;
+        }
         try {
-            var estudios = service.getAll();
-            model.addAttribute("estudios", estudios);
+            // Sólo el primer lote se lee acá; el resto mientras se renderiza, y la tabla sale por partes
+            model.addAttribute("estudios", service.iterateAll());
         } catch (ServiceException e) {
+            respuestaCondicional.noStore(response);
             model.addAttribute("error", e.getMessage());
         } catch (Exception e) {
+            respuestaCondicional.noStore(response);
             model.addAttribute("error", "Ha ocurrido un error inesperado");
         }
         return "estudio/index";
@@ -47,9 +59,14 @@ public class EstudioController {
     public String postEstudio(@RequestParam String nombre, Model model,
             RedirectAttributes redirectAttributes) {
         try {
-            var id = service.create(nombre);
-            redirectAttributes.addFlashAttribute("success", "Estudio creado correctamente");
-            return "redirect:/estudios/" + id;
+            var validacion = service.validar(nombre);
+            if (validacion.isValida()) {
+                var id = service.create(nombre);
+                redirectAttributes.addFlashAttribute("success", "Estudio creado correctamente");
+                return "redirect:/estudios/" + id;
+            }
+            model.addAttribute("error", validacion.getMensaje());
+            model.addAttribute("errores", validacion.getErrores());
         } catch (ServiceException e) {
             model.addAttribute("error", e.getMessage());
         } catch (Exception e) {
@@ -76,11 +93,20 @@ public class EstudioController {
     }
 
     @PostMapping("/{id}")
-    public String putEstudio(@PathVariable UUID id, @RequestParam String nombre, Model model,
+    public String putEstudio(@PathVariable UUID id, @RequestParam String nombre,
+            @RequestParam(required = false) Long version, Model model,
             RedirectAttributes redirectAttributes) {
         try {
-            service.update(id, nombre);
-            redirectAttributes.addFlashAttribute("success", "Estudio actualizado correctamente");
+            var validacion = service.validar(nombre);
+            if (validacion.isValida()) {
+                service.update(id, nombre, version);
+                redirectAttributes.addFlashAttribute("success", "Estudio actualizado correctamente");
+                return "redirect:/estudios/" + id;
+            }
+            model.addAttribute("error", validacion.getMensaje());
+            model.addAttribute("errores", validacion.getErrores());
+        } catch (ConflictException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
             return "redirect:/estudios/" + id;
         } catch (ServiceException e) {
             model.addAttribute("error", e.getMessage());
@@ -93,8 +119,23 @@ public class EstudioController {
     @PostMapping("/{id}/delete")
     public String deleteEstudio(@PathVariable UUID id, Model model, RedirectAttributes redirectAttributes) {
         try {
-            service.delete(id);
-            redirectAttributes.addFlashAttribute("success", "Estudio eliminado correctamente");
+            var videojuegos = service.delete(id);
+            redirectAttributes.addFlashAttribute("success",
+                    "Estudio eliminado correctamente junto con " + videojuegos + " videojuegos");
+        } catch (ServiceException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Ha ocurrido un error inesperado");
+        }
+        return "redirect:/estudios";
+    }
+
+    @PostMapping("/{id}/reactivar")
+    public String reactivarEstudio(@PathVariable UUID id, RedirectAttributes redirectAttributes) {
+        try {
+            var videojuegos = service.reactivate(id);
+            redirectAttributes.addFlashAttribute("success",
+                    "Estudio reactivado correctamente junto con " + videojuegos + " videojuegos");
         } catch (ServiceException e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
         } catch (Exception e) {
@@ -0,0 +1,67 @@
+package com.uncode.videojuegos.controller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.uncode.videojuegos.model.service.imagen.AlmacenImagenes;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sirve las imágenes de {@link AlmacenImagenes}. Como el nombre es el hash del
+ * contenido, se cachean un año como inmutables. Con el conector NIO de Tomcat
+ * el cuerpo se envía con sendfile, sin pasar por la JVM.
+ */
+@Controller
+@RequestMapping("/imagenes")
+public class ImagenController {
+
+    private static final String SENDFILE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_ARCHIVO = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_INICIO = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_FIN = "org.apache.tomcat.sendfile.end";
+    private static final String INMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+            .getHeaderValue();
+
+    @Autowired
+    private AlmacenImagenes almacen;
+
+    @GetMapping("/{nombre:.+}")
+    public void getImagen(@PathVariable String nombre, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        var archivo = almacen.get(nombre);
+        if (archivo.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, INMUTABLE);
+        if (new ServletWebRequest(request, response).checkNotModified("\"" + nombre + "\"")) {
+            return;
+        }
+        var ruta = archivo.get().toRealPath();
+        var tamanio = Files.size(ruta);
+        response.setContentType(MediaTypeFactory.getMediaType(nombre)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(tamanio);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE))) {
+            request.setAttribute(SENDFILE_ARCHIVO, ruta.toString());
+            request.setAttribute(SENDFILE_INICIO, 0L);
+            request.setAttribute(SENDFILE_FIN, tamanio);
+            return;
+        }
+        Files.copy(ruta, response.getOutputStream());
+    }
+}
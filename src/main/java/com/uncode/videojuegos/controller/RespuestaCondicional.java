@@ -0,0 +1,53 @@
+package com.uncode.videojuegos.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import com.uncode.videojuegos.model.service.evento.VersionesCatalogo;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * GET condicional para las páginas del catálogo. Las respuestas se pueden
+ * guardar (también en un proxy) pero se revalidan siempre, así que un cambio
+ * se ve en la siguiente petición y, si no hubo cambios, se responde 304 sin
+ * consultar la base ni renderizar.
+ */
+@Component
+public class RespuestaCondicional {
+
+    private static final String CACHEABLE = CacheControl.noCache().cachePublic().getHeaderValue();
+    private static final String NO_CACHEABLE = CacheControl.noStore().getHeaderValue();
+
+    @Autowired
+    private VersionesCatalogo versiones;
+
+    /**
+     * Devuelve {@code true} si el cliente ya tiene la versión vigente de las
+     * tablas indicadas; la respuesta queda como 304 y el controlador debe
+     * devolver {@code null}. Las páginas con mensajes flash no se cachean.
+     */
+    public boolean notModified(HttpServletRequest request, HttpServletResponse response, Class<?>... entidades) {
+        var flash = RequestContextUtils.getInputFlashMap(request);
+        if (flash != null && !flash.isEmpty()) {
+            noStore(response);
+            return false;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHEABLE);
+        return new ServletWebRequest(request, response)
+                .checkNotModified(versiones.etag(entidades), versiones.lastModified(entidades));
+    }
+
+    /**
+     * Para una página que se renderizó con un error: que no se guarde con el
+     * ETag de la versión vigente.
+     */
+    public void noStore(HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, NO_CACHEABLE);
+    }
+}
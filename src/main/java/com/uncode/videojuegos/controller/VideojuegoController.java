@@ -1,25 +1,46 @@
 package com.uncode.videojuegos.controller;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.time.LocalDate;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.uncode.videojuegos.model.dto.FiltroVideojuego;
 import com.uncode.videojuegos.model.entity.Categoria;
 import com.uncode.videojuegos.model.entity.Estudio;
 import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.service.VideojuegoExportService;
+import com.uncode.videojuegos.model.service.VideojuegoImportService;
+import com.uncode.videojuegos.model.service.VideojuegoLoteService;
 import com.uncode.videojuegos.model.service.VideojuegoService;
 import com.uncode.videojuegos.model.service.CategoriaService;
 import com.uncode.videojuegos.model.service.EstudioService;
+import com.uncode.videojuegos.model.service.exception.ConflictException;
+import com.uncode.videojuegos.model.service.exception.NotFoundException;
 import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exception.ValidationException;
+import com.uncode.videojuegos.model.service.exportacion.FormatoExportacion;
+import com.uncode.videojuegos.model.service.lote.CambioVideojuego;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 @Controller
 @RequestMapping("/videojuegos")
@@ -28,17 +49,91 @@ public class VideojuegoController {
     @Autowired
     private VideojuegoService videojuegoService;
 
+    @Autowired
+    private VideojuegoImportService importService;
+
+    @Autowired
+    private VideojuegoExportService exportService;
+
+    @Autowired
+    private VideojuegoLoteService loteService;
+
     @Autowired
     private CategoriaService categoriaService;
 
     @Autowired
     private EstudioService estudioService;
 
+    @Autowired
+    private RespuestaCondicional respuestaCondicional;
+
     @GetMapping
-    public String getVideojuegos(Model model) {
+    public String getVideojuegos(@RequestParam(required = false) String despues,
+            @RequestParam(required = false) String antes,
+            @RequestParam(defaultValue = "" + VideojuegoService.TAMANIO_PAGINA) int tamanio,
+            @RequestParam(required = false) UUID categoriaId,
+            @RequestParam(required = false) UUID estudioId,
+            @RequestParam(required = false) Boolean oferta,
+            @RequestParam(required = false) Float precioMin,
+            @RequestParam(required = false) Float precioMax,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate lanzamientoDesde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate lanzamientoHasta,
+            Model model, HttpServletRequest request, HttpServletResponse response) {
+        if (respuestaCondicional.notModified(request, response, Videojuego.class, Categoria.class, Estudio.class)) {
+            return null;
+        }
+        var filtro = FiltroVideojuego.builder()
+                .categoriaId(categoriaId)
+                .estudioId(estudioId)
+                .oferta(oferta)
+                .precioMin(precioMin)
+                .precioMax(precioMax)
+                .lanzamientoDesde(lanzamientoDesde)
+                .lanzamientoHasta(lanzamientoHasta)
+                .build();
+        model.addAttribute("filtro", filtro);
+        try {
+            var catalogo = videojuegoService.filter(filtro, despues, antes, tamanio);
+            model.addAttribute("videojuegos", catalogo.getPagina().getContenido());
+            model.addAttribute("pagina", catalogo.getPagina());
+            model.addAttribute("facetas", catalogo.getFacetas());
+            model.addAttribute("categorias", categoriaService.getAll());
+            model.addAttribute("estudios", estudioService.getAll());
+        } catch (ServiceException e) {
+            respuestaCondicional.noStore(response);
+            model.addAttribute("error", e.getMessage());
+        } catch (Exception e) {
+            respuestaCondicional.noStore(response);
+            model.addAttribute("error", "Ha ocurrido un error inesperado");
+        }
+        return "videojuego/index";
+    }
+
+    @GetMapping("/todos")
+    public String getTodosVideojuegos(Model model, HttpServletRequest request, HttpServletResponse response) {
+        if (respuestaCondicional.notModified(request, response, Videojuego.class, Categoria.class, Estudio.class)) {
+            return null;
+        }
+        try {
+            // Sólo el primer lote se lee acá; el resto mientras se renderiza, y la tabla sale por partes
+            model.addAttribute("videojuegos", videojuegoService.iterateAll());
+        } catch (ServiceException e) {
+            respuestaCondicional.noStore(response);
+            model.addAttribute("error", e.getMessage());
+        } catch (Exception e) {
+            respuestaCondicional.noStore(response);
+            model.addAttribute("error", "Ha ocurrido un error inesperado");
+        }
+        return "videojuego/index";
+    }
+
+    @GetMapping("/buscar")
+    public String searchVideojuegos(@RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "" + VideojuegoService.TAMANIO_PAGINA) int tamanio,
+            Model model) {
+        model.addAttribute("q", q);
         try {
-            var videojuegos = videojuegoService.getAll();
-            model.addAttribute("videojuegos", videojuegos);
+            model.addAttribute("videojuegos", videojuegoService.search(q, tamanio));
         } catch (ServiceException e) {
             model.addAttribute("error", e.getMessage());
         } catch (Exception e) {
@@ -76,11 +171,16 @@ public class VideojuegoController {
             Model model,
             RedirectAttributes redirectAttributes) {
         try {
-            var id = videojuegoService.create(nombre, rutaimg, precio, cantidad, descripcion, oferta != null,
-                    LocalDate.parse(lanzamiento),
-                    categoriaId, estudioId);
-            redirectAttributes.addFlashAttribute("success", "Videojuego creado correctamente");
-            return "redirect:/videojuegos/" + id;
+            var validacion = videojuegoService.validar(nombre, rutaimg, precio, cantidad, descripcion);
+            if (validacion.isValida()) {
+                var id = videojuegoService.create(nombre, rutaimg, precio, cantidad, descripcion, oferta != null,
+                        LocalDate.parse(lanzamiento),
+                        categoriaId, estudioId);
+                redirectAttributes.addFlashAttribute("success", "Videojuego creado correctamente");
+                return "redirect:/videojuegos/" + id;
+            }
+            model.addAttribute("error", validacion.getMensaje());
+            model.addAttribute("errores", validacion.getErrores());
         } catch (ServiceException e) {
             model.addAttribute("error", e.getMessage());
         } catch (Exception e) {
@@ -92,6 +192,88 @@ public class VideojuegoController {
         return "videojuego/form";
     }
 
+    @PostMapping("/import")
+    @ResponseBody
+    public ResponseEntity<?> importVideojuegos(@RequestParam MultipartFile archivo) {
+        try (var in = archivo.getInputStream()) {
+            var nombre = archivo.getOriginalFilename() == null ? "" : archivo.getOriginalFilename().toLowerCase();
+            var resultado = nombre.endsWith(".json") || nombre.endsWith(".jsonl") || nombre.endsWith(".ndjson")
+                    ? importService.importJson(in)
+                    : importService.importCsv(in);
+            return ResponseEntity.ok(resultado);
+        } catch (ServiceException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", "Ha ocurrido un error inesperado"));
+        }
+    }
+
+    @GetMapping("/export")
+    public void exportVideojuegos(@RequestParam(defaultValue = "CSV") FormatoExportacion formato,
+            @RequestParam(required = false) UUID categoriaId,
+            @RequestParam(required = false) UUID estudioId,
+            @RequestParam(required = false) Boolean oferta,
+            HttpServletResponse response) throws Exception {
+        response.setContentType(formato.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"videojuegos." + formato.getExtension() + "\"");
+        try {
+            exportService.export(response.getOutputStream(), formato, categoriaId, estudioId, oferta);
+        } catch (ServiceException e) {
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage());
+            }
+        }
+    }
+
+    @PostMapping("/lote")
+    @ResponseBody
+    public ResponseEntity<?> updateVideojuegos(@RequestBody List<CambioVideojuego> cambios,
+            @RequestParam(defaultValue = "0") int reintentos) {
+        try {
+            return ResponseEntity.ok(loteService.update(cambios, reintentos));
+        } catch (ServiceException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", "Ha ocurrido un error inesperado"));
+        }
+    }
+
+    @PostMapping("/{id}/reservar")
+    @ResponseBody
+    public ResponseEntity<?> reserveVideojuego(@PathVariable UUID id, @RequestParam short cantidad) {
+        try {
+            videojuegoService.reserve(id, cantidad);
+            return ResponseEntity.ok(Map.of("reservado", cantidad));
+        } catch (NotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (ServiceException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", "Ha ocurrido un error inesperado"));
+        }
+    }
+
+    @PostMapping("/{id}/reponer")
+    @ResponseBody
+    public ResponseEntity<?> releaseVideojuego(@PathVariable UUID id, @RequestParam short cantidad) {
+        try {
+            videojuegoService.release(id, cantidad);
+            return ResponseEntity.ok(Map.of("repuesto", cantidad));
+        } catch (NotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (ServiceException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", "Ha ocurrido un error inesperado"));
+        }
+    }
+
     @GetMapping("/{id}")
     public String getVideojuego(@PathVariable UUID id, Model model, RedirectAttributes redirectAttributes) {
         try {
@@ -120,13 +302,22 @@ public class VideojuegoController {
             @RequestParam String lanzamiento,
             @RequestParam UUID categoriaId,
             @RequestParam UUID estudioId,
+            @RequestParam(required = false) Long version,
             Model model,
             RedirectAttributes redirectAttributes) {
         try {
-            videojuegoService.update(id, nombre, rutaimg, precio, cantidad, descripcion, oferta,
-                    LocalDate.parse(lanzamiento),
-                    categoriaId, estudioId);
-            redirectAttributes.addFlashAttribute("success", "Videojuego actualizado correctamente");
+            var validacion = videojuegoService.validar(nombre, rutaimg, precio, cantidad, descripcion);
+            if (validacion.isValida()) {
+                videojuegoService.update(id, nombre, rutaimg, precio, cantidad, descripcion, oferta,
+                        LocalDate.parse(lanzamiento),
+                        categoriaId, estudioId, version);
+                redirectAttributes.addFlashAttribute("success", "Videojuego actualizado correctamente");
+                return "redirect:/videojuegos/" + id;
+            }
+            model.addAttribute("error", validacion.getMensaje());
+            model.addAttribute("errores", validacion.getErrores());
+        } catch (ConflictException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
             return "redirect:/videojuegos/" + id;
         } catch (ServiceException e) {
             model.addAttribute("error", e.getMessage());
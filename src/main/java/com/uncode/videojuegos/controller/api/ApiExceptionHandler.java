@@ -0,0 +1,67 @@
+package com.uncode.videojuegos.controller.api;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import com.uncode.videojuegos.model.service.exception.ConflictException;
+import com.uncode.videojuegos.model.service.exception.NotFoundException;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+
+/**
+ * Traduce los errores de la API a respuestas {@code {"error": ...}}, con el
+ * mismo formato que los endpoints JSON de los controladores HTML.
+ */
+@RestControllerAdvice(basePackageClasses = ApiExceptionHandler.class)
+public class ApiExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiExceptionHandler.class);
+
+    static ResponseEntity<Map<String, String>> error(HttpStatus status, String mensaje) {
+        return ResponseEntity.status(status).body(Map.of("error", mensaje));
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, String>> conflict(ConflictException e) {
+        return error(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<Map<String, String>> notFound(NotFoundException e) {
+        return error(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(ServiceException.class)
+    public ResponseEntity<Map<String, String>> service(ServiceException e) {
+        // ANY es un error inesperado que el servicio ya envolvió, no un problema de la petición
+        if (ServiceExceptionMessages.ANY.equals(e.getMessage())) {
+            log.error("Error inesperado en la API", e);
+            return error(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+        return error(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, String>> typeMismatch(MethodArgumentTypeMismatchException e) {
+        return error(HttpStatus.BAD_REQUEST, ServiceExceptionMessages.invalid(e.getName()));
+    }
+
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<Map<String, String>> missingParameter(MissingServletRequestParameterException e) {
+        return error(HttpStatus.BAD_REQUEST, ServiceExceptionMessages.invalid(e.getParameterName()));
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Map<String, String>> any(Exception e) {
+        log.error("Error inesperado en la API", e);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Ha ocurrido un error inesperado");
+    }
+}
@@ -0,0 +1,48 @@
+package com.uncode.videojuegos.controller.api;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.uncode.videojuegos.model.dto.CategoriaRespuesta;
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+import com.uncode.videojuegos.model.service.pagina.Pagina;
+
+@RestController
+@RequestMapping("/api/v1/categorias")
+public class CategoriaApiController {
+
+    @Autowired
+    private CategoriaService service;
+
+    @GetMapping
+    public Pagina<CategoriaRespuesta> getCategorias(@RequestParam(required = false) String despues,
+            @RequestParam(required = false) String antes,
+            @RequestParam(defaultValue = "" + VideojuegoService.TAMANIO_PAGINA) int tamanio) throws ServiceException {
+        return service.getPage(despues, antes, tamanio).map(CategoriaRespuesta::of);
+    }
+
+    @GetMapping("/lote")
+    public List<CategoriaRespuesta> getCategorias(@RequestParam List<UUID> ids) throws ServiceException {
+        return service.getAll(ids).stream().map(CategoriaRespuesta::of).toList();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getCategoria(@PathVariable UUID id) throws ServiceException {
+        return service.get(id).<ResponseEntity<?>>map(categoria -> ResponseEntity.ok(CategoriaRespuesta.of(categoria)))
+                .orElseGet(() -> ApiExceptionHandler.error(HttpStatus.NOT_FOUND,
+                        ServiceExceptionMessages.notFound(Categoria.class)));
+    }
+}
@@ -0,0 +1,48 @@
+package com.uncode.videojuegos.controller.api;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.uncode.videojuegos.model.dto.EstudioRespuesta;
+import com.uncode.videojuegos.model.entity.Estudio;
+import com.uncode.videojuegos.model.service.EstudioService;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+import com.uncode.videojuegos.model.service.pagina.Pagina;
+
+@RestController
+@RequestMapping("/api/v1/estudios")
+public class EstudioApiController {
+
+    @Autowired
+    private EstudioService service;
+
+    @GetMapping
+    public Pagina<EstudioRespuesta> getEstudios(@RequestParam(required = false) String despues,
+            @RequestParam(required = false) String antes,
+            @RequestParam(defaultValue = "" + VideojuegoService.TAMANIO_PAGINA) int tamanio) throws ServiceException {
+        return service.getPage(despues, antes, tamanio).map(EstudioRespuesta::of);
+    }
+
+    @GetMapping("/lote")
+    public List<EstudioRespuesta> getEstudios(@RequestParam List<UUID> ids) throws ServiceException {
+        return service.getAll(ids).stream().map(EstudioRespuesta::of).toList();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getEstudio(@PathVariable UUID id) throws ServiceException {
+        return service.get(id).<ResponseEntity<?>>map(estudio -> ResponseEntity.ok(EstudioRespuesta.of(estudio)))
+                .orElseGet(() -> ApiExceptionHandler.error(HttpStatus.NOT_FOUND,
+                        ServiceExceptionMessages.notFound(Estudio.class)));
+    }
+}
@@ -0,0 +1,96 @@
+package com.uncode.videojuegos.controller.api;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.uncode.videojuegos.model.dto.FiltroVideojuego;
+import com.uncode.videojuegos.model.dto.VideojuegoRespuesta;
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+import com.uncode.videojuegos.model.service.pagina.Pagina;
+
+/**
+ * Catálogo en JSON. Todos los endpoints aceptan {@code campos=nombre,precio,...}
+ * para devolver solo esos campos además del id.
+ */
+@RestController
+@RequestMapping("/api/v1/videojuegos")
+public class VideojuegoApiController {
+
+    @Autowired
+    private VideojuegoService service;
+
+    @GetMapping
+    public Pagina<VideojuegoRespuesta> getVideojuegos(@RequestParam(required = false) String despues,
+            @RequestParam(required = false) String antes,
+            @RequestParam(defaultValue = "" + VideojuegoService.TAMANIO_PAGINA) int tamanio,
+            @RequestParam(required = false) UUID categoriaId,
+            @RequestParam(required = false) UUID estudioId,
+            @RequestParam(required = false) Boolean oferta,
+            @RequestParam(required = false) Float precioMin,
+            @RequestParam(required = false) Float precioMax,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate lanzamientoDesde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate lanzamientoHasta,
+            @RequestParam(required = false) List<String> campos) throws ServiceException {
+        var seleccion = campos(campos);
+        var filtro = FiltroVideojuego.builder()
+                .categoriaId(categoriaId)
+                .estudioId(estudioId)
+                .oferta(oferta)
+                .precioMin(precioMin)
+                .precioMax(precioMax)
+                .lanzamientoDesde(lanzamientoDesde)
+                .lanzamientoHasta(lanzamientoHasta)
+                .build();
+        return service.getPage(filtro, despues, antes, tamanio)
+                .map(videojuego -> VideojuegoRespuesta.of(videojuego, seleccion));
+    }
+
+    @GetMapping("/lote")
+    public List<VideojuegoRespuesta> getVideojuegos(@RequestParam List<UUID> ids,
+            @RequestParam(required = false) List<String> campos) throws ServiceException {
+        var seleccion = campos(campos);
+        return service.getAll(ids).stream().map(videojuego -> VideojuegoRespuesta.of(videojuego, seleccion)).toList();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getVideojuego(@PathVariable UUID id,
+            @RequestParam(required = false) List<String> campos) throws ServiceException {
+        var seleccion = campos(campos);
+        return service.get(id)
+                .<ResponseEntity<?>>map(videojuego -> ResponseEntity.ok(VideojuegoRespuesta.of(videojuego, seleccion)))
+                .orElseGet(() -> ApiExceptionHandler.error(HttpStatus.NOT_FOUND,
+                        ServiceExceptionMessages.notFound(Videojuego.class)));
+    }
+
+    private static Set<String> campos(List<String> campos) throws ServiceException {
+        if (campos == null || campos.isEmpty()) {
+            return VideojuegoRespuesta.CAMPOS;
+        }
+        var seleccion = new HashSet<String>();
+        for (var campo : campos) {
+            var nombre = campo.trim();
+            if (nombre.equals("id"))
+                continue;
+            if (!VideojuegoRespuesta.CAMPOS.contains(nombre))
+                throw new ServiceException(ServiceExceptionMessages.invalid("campos"));
+            seleccion.add(nombre);
+        }
+        return seleccion;
+    }
+}
@@ -0,0 +1,19 @@
+package com.uncode.videojuegos.model.dto;
+
+import java.util.UUID;
+
+import com.uncode.videojuegos.model.entity.Categoria;
+
+import lombok.Value;
+
+@Value
+public class CategoriaRespuesta {
+
+    UUID id;
+    String nombre;
+    Long version;
+
+    public static CategoriaRespuesta of(Categoria categoria) {
+        return new CategoriaRespuesta(categoria.getId(), categoria.getNombre(), categoria.getVersion());
+    }
+}
@@ -0,0 +1,19 @@
+package com.uncode.videojuegos.model.dto;
+
+import java.util.UUID;
+
+import com.uncode.videojuegos.model.entity.Estudio;
+
+import lombok.Value;
+
+@Value
+public class EstudioRespuesta {
+
+    UUID id;
+    String nombre;
+    Long version;
+
+    public static EstudioRespuesta of(Estudio estudio) {
+        return new EstudioRespuesta(estudio.getId(), estudio.getNombre(), estudio.getVersion());
+    }
+}
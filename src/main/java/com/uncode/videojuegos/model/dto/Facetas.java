@@ -0,0 +1,32 @@
+package com.uncode.videojuegos.model.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * Cantidad de videojuegos activos por valor de cada faceta. Cada faceta aplica
+ * todos los filtros salvo el suyo, para que elegir una categoría no oculte las
+ * demás.
+ */
+@Value
+public class Facetas {
+
+    long total;
+    Map<UUID, Long> categorias;
+    Map<UUID, Long> estudios;
+    Map<Boolean, Long> oferta;
+
+    public long categoria(UUID id) {
+        return categorias.getOrDefault(id, 0L);
+    }
+
+    public long estudio(UUID id) {
+        return estudios.getOrDefault(id, 0L);
+    }
+
+    public long oferta(boolean valor) {
+        return oferta.getOrDefault(valor, 0L);
+    }
+}
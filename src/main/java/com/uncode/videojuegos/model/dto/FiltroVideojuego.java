@@ -0,0 +1,26 @@
+package com.uncode.videojuegos.model.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class FiltroVideojuego {
+
+    public static final FiltroVideojuego VACIO = FiltroVideojuego.builder().build();
+
+    UUID categoriaId;
+    UUID estudioId;
+    Boolean oferta;
+    Float precioMin;
+    Float precioMax;
+    LocalDate lanzamientoDesde;
+    LocalDate lanzamientoHasta;
+
+    public boolean isVacio() {
+        return equals(VACIO);
+    }
+}
@@ -0,0 +1,21 @@
+package com.uncode.videojuegos.model.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import lombok.Value;
+
+@Value
+public class VideojuegoExportacion {
+
+    UUID id;
+    String nombre;
+    String rutaimg;
+    float precio;
+    short cantidad;
+    String descripcion;
+    boolean oferta;
+    LocalDate lanzamiento;
+    String categoria;
+    String estudio;
+}
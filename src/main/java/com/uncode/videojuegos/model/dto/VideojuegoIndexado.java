@@ -0,0 +1,13 @@
+package com.uncode.videojuegos.model.dto;
+
+import java.util.UUID;
+
+import lombok.Value;
+
+@Value
+public class VideojuegoIndexado {
+
+    UUID id;
+    String nombre;
+    String descripcion;
+}
@@ -0,0 +1,65 @@
+package com.uncode.videojuegos.model.dto;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.uncode.videojuegos.model.entity.Videojuego;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Videojuego para la API. Con una selección de campos solo se completan los
+ * pedidos (el id siempre) y los demás se omiten del JSON.
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class VideojuegoRespuesta {
+
+    public static final Set<String> CAMPOS = Set.of("nombre", "rutaimg", "precio", "cantidad", "descripcion",
+            "oferta", "lanzamiento", "version", "categoria", "estudio");
+
+    UUID id;
+    String nombre;
+    String rutaimg;
+    Float precio;
+    Short cantidad;
+    String descripcion;
+    Boolean oferta;
+    LocalDate lanzamiento;
+    Long version;
+    CategoriaRespuesta categoria;
+    EstudioRespuesta estudio;
+
+    public static VideojuegoRespuesta of(Videojuego videojuego) {
+        return of(videojuego, CAMPOS);
+    }
+
+    public static VideojuegoRespuesta of(Videojuego videojuego, Set<String> campos) {
+        var respuesta = builder().id(videojuego.getId());
+        if (campos.contains("nombre"))
+            respuesta.nombre(videojuego.getNombre());
+        if (campos.contains("rutaimg"))
+            respuesta.rutaimg(videojuego.getRutaimg());
+        if (campos.contains("precio"))
+            respuesta.precio(videojuego.getPrecio());
+        if (campos.contains("cantidad"))
+            respuesta.cantidad(videojuego.getCantidad());
+        if (campos.contains("descripcion"))
+            respuesta.descripcion(videojuego.getDescripcion());
+        if (campos.contains("oferta"))
+            respuesta.oferta(videojuego.isOferta());
+        if (campos.contains("lanzamiento"))
+            respuesta.lanzamiento(videojuego.getLanzamiento());
+        if (campos.contains("version"))
+            respuesta.version(videojuego.getVersion());
+        if (campos.contains("categoria"))
+            respuesta.categoria(CategoriaRespuesta.of(videojuego.getCategoria()));
+        if (campos.contains("estudio"))
+            respuesta.estudio(EstudioRespuesta.of(videojuego.getEstudio()));
+        return respuesta.build();
+    }
+}
@@ -1,18 +1,35 @@
 package com.uncode.videojuegos.model.entity;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.uncode.videojuegos.model.entity.id.UuidV7;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(indexes = {
+        @Index(name = "idx_categoria_activo_nombre", columnList = "activo, nombre"),
+        @Index(name = "idx_categoria_activo_fecha_baja", columnList = "activo, fecha_baja") },
+        uniqueConstraints = @UniqueConstraint(name = Categoria.UK_NOMBRE, columnNames = "nombre_activo"))
 @Data
 @Builder
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -20,12 +37,22 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class Categoria {
 
+    public static final String UK_NOMBRE = "uk_categoria_nombre_activo";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @EqualsAndHashCode.Include
     private UUID id;
     @EqualsAndHashCode.Include
     private String nombre;
     @Builder.Default
     private boolean activo = true;
+    private LocalDateTime fechaBaja;
+    @Version
+    private Long version;
+    @Column(name = "nombre_activo", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) generated always as (case when activo then nombre end)")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String nombreActivo;
 }
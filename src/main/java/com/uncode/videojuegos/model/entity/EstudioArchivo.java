@@ -0,0 +1,29 @@
+package com.uncode.videojuegos.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Copia de un estudio dado de baja hace más que la retención, que ya no está
+ * en la tabla viva.
+ */
+@Entity
+@Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@NoArgsConstructor
+public class EstudioArchivo {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private UUID id;
+    private String nombre;
+    private long version;
+    private LocalDateTime fechaBaja;
+    private LocalDateTime archivado;
+}
@@ -1,22 +1,43 @@
 package com.uncode.videojuegos.model.entity;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
-import jakarta.persistence.CascadeType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.uncode.videojuegos.model.entity.id.UuidV7;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(indexes = {
+        @Index(name = "idx_videojuego_activo_nombre", columnList = "activo, nombre"),
+        @Index(name = "idx_videojuego_categoria_activo", columnList = "categoria_id, activo"),
+        @Index(name = "idx_videojuego_estudio_activo", columnList = "estudio_id, activo"),
+        @Index(name = "idx_videojuego_activo_precio", columnList = "activo, precio"),
+        @Index(name = "idx_videojuego_activo_lanzamiento", columnList = "activo, lanzamiento"),
+        @Index(name = "idx_videojuego_activo_oferta", columnList = "activo, oferta, categoria_id, estudio_id"),
+        @Index(name = "idx_videojuego_activo_fecha_baja", columnList = "activo, fecha_baja") },
+        uniqueConstraints = @UniqueConstraint(name = Videojuego.UK_NOMBRE, columnNames = "nombre_activo"))
 @Data
 @Builder
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -24,14 +45,18 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class Videojuego {
 
+    public static final String UK_NOMBRE = "uk_videojuego_nombre_activo";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @EqualsAndHashCode.Include
     private UUID id;
     @EqualsAndHashCode.Include
     private String nombre;
     @Column(length = 2048)
     private String rutaimg;
+    @Column(length = 64)
+    private String imagen;
     private float precio;
     private short cantidad;
     private String descripcion;
@@ -39,9 +64,22 @@ public class Videojuego {
     private LocalDate lanzamiento;
     @Builder.Default
     private boolean activo = true;
+    private LocalDateTime fechaBaja;
+    /**
+     * Se dio de baja por la baja de su categoría o estudio, y vuelve con su
+     * reactivación.
+     */
+    private boolean desactivadoEnCascada;
+    @Version
+    private Long version;
+    @Column(name = "nombre_activo", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) generated always as (case when activo then nombre end)")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String nombreActivo;
 
-    @ManyToOne(optional = false, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     private Categoria categoria;
-    @ManyToOne(optional = false, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     private Estudio estudio;
 }
@@ -0,0 +1,43 @@
+package com.uncode.videojuegos.model.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Copia de un videojuego dado de baja hace más que la retención. Guarda los
+ * identificadores de categoría y estudio sin clave foránea, porque estos se
+ * pueden archivar después.
+ */
+@Entity
+@Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@NoArgsConstructor
+public class VideojuegoArchivo {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private UUID id;
+    private String nombre;
+    @Column(length = 2048)
+    private String rutaimg;
+    @Column(length = 64)
+    private String imagen;
+    private float precio;
+    private short cantidad;
+    private String descripcion;
+    private boolean oferta;
+    private LocalDate lanzamiento;
+    private UUID categoriaId;
+    private UUID estudioId;
+    private long version;
+    private LocalDateTime fechaBaja;
+    private LocalDateTime archivado;
+}
@@ -0,0 +1,19 @@
+package com.uncode.videojuegos.model.entity.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Identificador UUID versión 7 (RFC 9562): los primeros 48 bits son el
+ * instante en milisegundos, así que los ids nuevos se insertan al final del
+ * índice de la clave primaria en lugar de en páginas al azar.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface UuidV7 {
+}
@@ -0,0 +1,40 @@
+package com.uncode.videojuegos.model.entity.id;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    /**
+     * Milisegundos desplazados 12 bits más un contador en los 12 bits bajos
+     * ({@code rand_a}). Garantiza ids crecientes dentro de la JVM aunque se
+     * generen varios en el mismo milisegundo o el reloj retroceda.
+     */
+    private static final AtomicLong ULTIMO = new AtomicLong();
+
+    public static UUID next() {
+        var ahora = System.currentTimeMillis() << 12;
+        var marca = ULTIMO.updateAndGet(anterior -> Math.max(ahora, anterior + 1));
+        var msb = (marca >>> 12) << 16 | 0x7000L | (marca & 0xFFFL);
+        var lsb = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
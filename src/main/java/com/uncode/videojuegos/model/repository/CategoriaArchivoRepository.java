@@ -0,0 +1,26 @@
+package com.uncode.videojuegos.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.uncode.videojuegos.model.entity.CategoriaArchivo;
+
+@Repository
+public interface CategoriaArchivoRepository extends JpaRepository<CategoriaArchivo, UUID> {
+
+    @Modifying
+    @Query("""
+            insert into CategoriaArchivo (id, nombre, version, fechaBaja, archivado)
+            select c.id, c.nombre, c.version, c.fechaBaja, :archivado from Categoria c
+            where c.id in :ids and c.activo = false and c.fechaBaja < :limite
+                and not exists (select v.id from Videojuego v where v.categoria = c)""")
+    int archivar(@Param("ids") Collection<UUID> ids, @Param("limite") LocalDateTime limite,
+            @Param("archivado") LocalDateTime archivado);
+}
@@ -1,20 +1,81 @@
 package com.uncode.videojuegos.model.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.uncode.videojuegos.model.entity.Categoria;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface CategoriaRepository extends JpaRepository<Categoria, UUID> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     public Set<Categoria> findByActivoTrue();
     public boolean existsByActivoTrueAndNombre(String nombre);    
     public boolean existsByIdNotAndActivoTrueAndNombre(UUID id, String nombre);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     public Optional<Categoria> findByIdAndActivoTrue(UUID id);
     public Optional<Categoria> findByActivoTrueAndNombre(String nombre);
+    public Set<Categoria> findByActivoTrueAndNombreIn(Collection<String> nombres);
+    public List<Categoria> findByIdInAndActivoTrue(Collection<UUID> ids);
+    public List<Categoria> findByActivoTrueOrderByNombreAscIdAsc(Limit limit);
+    @Query("""
+            select c from Categoria c
+            where c.activo = true and c.nombre >= :nombre
+            and (c.nombre > :nombre or c.id > :id)
+            order by c.nombre asc, c.id asc""")
+    public List<Categoria> findPaginaSiguiente(@Param("nombre") String nombre, @Param("id") UUID id, Limit limit);
+    @Query("""
+            select c from Categoria c
+            where c.activo = true and c.nombre <= :nombre
+            and (c.nombre < :nombre or c.id < :id)
+            order by c.nombre desc, c.id desc""")
+    public List<Categoria> findPaginaAnterior(@Param("nombre") String nombre, @Param("id") UUID id, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update versioned Categoria c set c.activo = false, c.fechaBaja = local datetime
+            where c.id = :id and c.activo = true""")
+    public int desactivar(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update versioned Categoria c set c.activo = true, c.fechaBaja = null
+            where c.id = :id and c.activo = false""")
+    public int reactivar(@Param("id") UUID id);
+
+    @Query("""
+            select c.id from Categoria c
+            where c.activo = false and c.fechaBaja < :limite
+                and not exists (select v.id from Videojuego v where v.categoria = c)
+            order by c.fechaBaja, c.id""")
+    public List<UUID> findArchivables(@Param("limite") LocalDateTime limite, Limit limit);
+
+    @Query("""
+            select count(c) from Categoria c
+            where c.activo = false and c.fechaBaja < :limite
+                and not exists (select v.id from Videojuego v where v.categoria = c)""")
+    public long countArchivables(@Param("limite") LocalDateTime limite);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            delete from Categoria c
+            where c.id in :ids and c.activo = false and c.fechaBaja < :limite
+                and not exists (select v.id from Videojuego v where v.categoria = c)""")
+    public int deleteArchivables(@Param("ids") Collection<UUID> ids, @Param("limite") LocalDateTime limite);
 }
@@ -0,0 +1,26 @@
+package com.uncode.videojuegos.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.uncode.videojuegos.model.entity.EstudioArchivo;
+
+@Repository
+public interface EstudioArchivoRepository extends JpaRepository<EstudioArchivo, UUID> {
+
+    @Modifying
+    @Query("""
+            insert into EstudioArchivo (id, nombre, version, fechaBaja, archivado)
+            select e.id, e.nombre, e.version, e.fechaBaja, :archivado from Estudio e
+            where e.id in :ids and e.activo = false and e.fechaBaja < :limite
+                and not exists (select v.id from Videojuego v where v.estudio = e)""")
+    int archivar(@Param("ids") Collection<UUID> ids, @Param("limite") LocalDateTime limite,
+            @Param("archivado") LocalDateTime archivado);
+}
@@ -1,14 +1,26 @@
 package com.uncode.videojuegos.model.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.uncode.videojuegos.model.entity.Estudio;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface EstudioRepository extends JpaRepository<Estudio, UUID>{
 
@@ -16,10 +28,63 @@ public interface EstudioRepository extends JpaRepository<Estudio, UUID>{
 
     boolean existsByIdNotAndActivoTrueAndNombre(UUID id, String nombre);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Estudio> findByIdAndActivoTrue(UUID id);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Set<Estudio> findByActivoTrue();
 
     Optional<Estudio> findByActivoTrueAndNombre(String nombre);
 
+    Set<Estudio> findByActivoTrueAndNombreIn(Collection<String> nombres);
+
+    List<Estudio> findByIdInAndActivoTrue(Collection<UUID> ids);
+
+    List<Estudio> findByActivoTrueOrderByNombreAscIdAsc(Limit limit);
+
+    @Query("""
+            select e from Estudio e
+            where e.activo = true and e.nombre >= :nombre
+            and (e.nombre > :nombre or e.id > :id)
+            order by e.nombre asc, e.id asc""")
+    List<Estudio> findPaginaSiguiente(@Param("nombre") String nombre, @Param("id") UUID id, Limit limit);
+
+    @Query("""
+            select e from Estudio e
+            where e.activo = true and e.nombre <= :nombre
+            and (e.nombre < :nombre or e.id < :id)
+            order by e.nombre desc, e.id desc""")
+    List<Estudio> findPaginaAnterior(@Param("nombre") String nombre, @Param("id") UUID id, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update versioned Estudio e set e.activo = false, e.fechaBaja = local datetime
+            where e.id = :id and e.activo = true""")
+    int desactivar(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update versioned Estudio e set e.activo = true, e.fechaBaja = null
+            where e.id = :id and e.activo = false""")
+    int reactivar(@Param("id") UUID id);
+
+    @Query("""
+            select e.id from Estudio e
+            where e.activo = false and e.fechaBaja < :limite
+                and not exists (select v.id from Videojuego v where v.estudio = e)
+            order by e.fechaBaja, e.id""")
+    List<UUID> findArchivables(@Param("limite") LocalDateTime limite, Limit limit);
+
+    @Query("""
+            select count(e) from Estudio e
+            where e.activo = false and e.fechaBaja < :limite
+                and not exists (select v.id from Videojuego v where v.estudio = e)""")
+    long countArchivables(@Param("limite") LocalDateTime limite);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            delete from Estudio e
+            where e.id in :ids and e.activo = false and e.fechaBaja < :limite
+                and not exists (select v.id from Videojuego v where v.estudio = e)""")
+    int deleteArchivables(@Param("ids") Collection<UUID> ids, @Param("limite") LocalDateTime limite);
 }
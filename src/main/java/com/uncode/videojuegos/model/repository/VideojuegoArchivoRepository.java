@@ -0,0 +1,28 @@
+package com.uncode.videojuegos.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.uncode.videojuegos.model.entity.VideojuegoArchivo;
+
+@Repository
+public interface VideojuegoArchivoRepository extends JpaRepository<VideojuegoArchivo, UUID> {
+
+    @Modifying
+    @Query("""
+            insert into VideojuegoArchivo (id, nombre, rutaimg, imagen, precio, cantidad, descripcion, oferta,
+                lanzamiento, categoriaId, estudioId, version, fechaBaja, archivado)
+            select v.id, v.nombre, v.rutaimg, v.imagen, v.precio, v.cantidad, v.descripcion, v.oferta,
+                v.lanzamiento, v.categoria.id, v.estudio.id, v.version, v.fechaBaja, :archivado
+            from Videojuego v
+            where v.id in :ids and v.activo = false and v.fechaBaja < :limite""")
+    int archivar(@Param("ids") Collection<UUID> ids, @Param("limite") LocalDateTime limite,
+            @Param("archivado") LocalDateTime archivado);
+}
@@ -0,0 +1,9 @@
+package com.uncode.videojuegos.model.repository;
+
+import com.uncode.videojuegos.model.dto.Facetas;
+import com.uncode.videojuegos.model.dto.FiltroVideojuego;
+
+public interface VideojuegoFacetasRepository {
+
+    Facetas facetas(FiltroVideojuego filtro);
+}
@@ -0,0 +1,88 @@
+package com.uncode.videojuegos.model.repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.uncode.videojuegos.model.dto.Facetas;
+import com.uncode.videojuegos.model.dto.FiltroVideojuego;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+
+/**
+ * Calcula todas las facetas en una sola sentencia: un {@code union all} con un
+ * {@code group by} por faceta, cada uno con los filtros de las demás.
+ */
+class VideojuegoFacetasRepositoryImpl implements VideojuegoFacetasRepository {
+
+    private enum Faceta {
+        TOTAL, CATEGORIA, ESTUDIO, OFERTA
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Facetas facetas(FiltroVideojuego filtro) {
+        var hql = String.join(" union all ",
+                "select 0, cast(null as java.util.UUID), cast(null as Boolean), count(v) from Videojuego v where "
+                        + where(filtro, Faceta.TOTAL),
+                "select 1, v.categoria.id, cast(null as Boolean), count(v) from Videojuego v where "
+                        + where(filtro, Faceta.CATEGORIA) + " group by v.categoria.id",
+                "select 2, v.estudio.id, cast(null as Boolean), count(v) from Videojuego v where "
+                        + where(filtro, Faceta.ESTUDIO) + " group by v.estudio.id",
+                "select 3, cast(null as java.util.UUID), v.oferta, count(v) from Videojuego v where "
+                        + where(filtro, Faceta.OFERTA) + " group by v.oferta");
+        var query = entityManager.createQuery(hql, Tuple.class);
+        if (filtro.getCategoriaId() != null)
+            query.setParameter("categoriaId", filtro.getCategoriaId());
+        if (filtro.getEstudioId() != null)
+            query.setParameter("estudioId", filtro.getEstudioId());
+        if (filtro.getOferta() != null)
+            query.setParameter("oferta", filtro.getOferta());
+        if (filtro.getPrecioMin() != null)
+            query.setParameter("precioMin", filtro.getPrecioMin());
+        if (filtro.getPrecioMax() != null)
+            query.setParameter("precioMax", filtro.getPrecioMax());
+        if (filtro.getLanzamientoDesde() != null)
+            query.setParameter("lanzamientoDesde", filtro.getLanzamientoDesde());
+        if (filtro.getLanzamientoHasta() != null)
+            query.setParameter("lanzamientoHasta", filtro.getLanzamientoHasta());
+
+        long total = 0;
+        Map<UUID, Long> categorias = new HashMap<>();
+        Map<UUID, Long> estudios = new HashMap<>();
+        Map<Boolean, Long> oferta = new HashMap<>();
+        for (var fila : query.getResultList()) {
+            var cantidad = fila.get(3, Long.class);
+            switch (Faceta.values()[fila.get(0, Integer.class)]) {
+                case TOTAL -> total = cantidad;
+                case CATEGORIA -> categorias.put(fila.get(1, UUID.class), cantidad);
+                case ESTUDIO -> estudios.put(fila.get(1, UUID.class), cantidad);
+                case OFERTA -> oferta.put(fila.get(2, Boolean.class), cantidad);
+            }
+        }
+        return new Facetas(total, categorias, estudios, oferta);
+    }
+
+    private static String where(FiltroVideojuego filtro, Faceta faceta) {
+        var where = new StringBuilder("v.activo = true");
+        if (filtro.getCategoriaId() != null && faceta != Faceta.CATEGORIA)
+            where.append(" and v.categoria.id = :categoriaId");
+        if (filtro.getEstudioId() != null && faceta != Faceta.ESTUDIO)
+            where.append(" and v.estudio.id = :estudioId");
+        if (filtro.getOferta() != null && faceta != Faceta.OFERTA)
+            where.append(" and v.oferta = :oferta");
+        if (filtro.getPrecioMin() != null)
+            where.append(" and v.precio >= :precioMin");
+        if (filtro.getPrecioMax() != null)
+            where.append(" and v.precio <= :precioMax");
+        if (filtro.getLanzamientoDesde() != null)
+            where.append(" and v.lanzamiento >= :lanzamientoDesde");
+        if (filtro.getLanzamientoHasta() != null)
+            where.append(" and v.lanzamiento <= :lanzamientoHasta");
+        return where.toString();
+    }
+}
@@ -1,23 +1,217 @@
 package com.uncode.videojuegos.model.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.uncode.videojuegos.model.dto.VideojuegoExportacion;
+import com.uncode.videojuegos.model.dto.VideojuegoIndexado;
 import com.uncode.videojuegos.model.entity.Videojuego;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface VideojuegoRepository extends JpaRepository<Videojuego, UUID>{
+public interface VideojuegoRepository extends JpaRepository<Videojuego, UUID>, JpaSpecificationExecutor<Videojuego>,
+        VideojuegoFacetasRepository {
 
     boolean existsByActivoTrueAndNombre(String name);
 
     boolean existsByIdNotAndActivoTrueAndNombre(UUID id, String nombre);
 
+    @EntityGraph(attributePaths = { "categoria", "estudio" })
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Videojuego> findByIdAndActivoTrue(UUID id);
 
+    @EntityGraph(attributePaths = { "categoria", "estudio" })
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Set<Videojuego> findByActivoTrue();
 
+    @Query("select v.nombre from Videojuego v where v.activo = true and v.nombre in :nombres")
+    Set<String> findNombresActivos(@Param("nombres") Collection<String> nombres);
+
+    @EntityGraph(attributePaths = { "categoria", "estudio" })
+    List<Videojuego> findByActivoTrueOrderByNombreAscIdAsc(Limit limit);
+
+    @EntityGraph(attributePaths = { "categoria", "estudio" })
+    @Query("""
+            select v from Videojuego v
+            where v.activo = true and v.nombre >= :nombre
+            and (v.nombre > :nombre or v.id > :id)
+            order by v.nombre asc, v.id asc""")
+    List<Videojuego> findPaginaSiguiente(@Param("nombre") String nombre, @Param("id") UUID id, Limit limit);
+
+    @EntityGraph(attributePaths = { "categoria", "estudio" })
+    @Query("""
+            select v from Videojuego v
+            where v.activo = true and v.nombre <= :nombre
+            and (v.nombre < :nombre or v.id < :id)
+            order by v.nombre desc, v.id desc""")
+    List<Videojuego> findPaginaAnterior(@Param("nombre") String nombre, @Param("id") UUID id, Limit limit);
+
+    @Query("select v.cantidad from Videojuego v where v.id = :id and v.activo = true")
+    Optional<Short> findCantidadActiva(@Param("id") UUID id);
+
+    @Modifying
+    @Query("""
+            update versioned Videojuego v set v.cantidad = v.cantidad - :unidades
+            where v.id = :id and v.activo = true and v.cantidad >= :unidades""")
+    int reservar(@Param("id") UUID id, @Param("unidades") short unidades);
+
+    @Modifying
+    @Query("""
+            update versioned Videojuego v set v.cantidad = v.cantidad + :unidades
+            where v.id = :id and v.activo = true and v.cantidad <= :limite""")
+    int reponer(@Param("id") UUID id, @Param("unidades") short unidades, @Param("limite") short limite);
+
+    @Query("select v.version from Videojuego v where v.id = :id and v.activo = true")
+    Optional<Long> findVersionActiva(@Param("id") UUID id);
+
+    /**
+     * Aplica los campos no nulos si la versión coincide (o si no se indica) e
+     * incrementa la versión; devuelve 0 ante un conflicto o si no existe.
+     */
+    @Modifying
+    @Query("""
+            update versioned Videojuego v
+            set v.precio = coalesce(:precio, v.precio),
+                v.cantidad = coalesce(:cantidad, v.cantidad),
+                v.oferta = coalesce(:oferta, v.oferta)
+            where v.id = :id and v.activo = true and (:version is null or v.version = :version)""")
+    int actualizarCampos(@Param("id") UUID id, @Param("version") Long version, @Param("precio") Float precio,
+            @Param("cantidad") Short cantidad, @Param("oferta") Boolean oferta);
+
+    /**
+     * Registra la imagen procesada solo si {@code rutaimg} no cambió mientras
+     * se descargaba. No incrementa la versión: no es una edición del usuario.
+     */
+    @Modifying
+    @Query("update Videojuego v set v.imagen = :imagen where v.id = :id and v.rutaimg = :rutaimg")
+    int actualizarImagen(@Param("id") UUID id, @Param("rutaimg") String rutaimg, @Param("imagen") String imagen);
+
+    @EntityGraph(attributePaths = { "categoria", "estudio" })
+    List<Videojuego> findByIdInAndActivoTrue(Collection<UUID> ids);
+
+    /**
+     * Baja en cascada en una sola sentencia: los videojuegos activos de la
+     * categoría quedan inactivos y marcados para volver con su reactivación.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update versioned Videojuego v
+            set v.activo = false, v.desactivadoEnCascada = true, v.fechaBaja = local datetime
+            where v.categoria.id = :categoriaId and v.activo = true""")
+    int desactivarPorCategoria(@Param("categoriaId") UUID categoriaId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update versioned Videojuego v
+            set v.activo = false, v.desactivadoEnCascada = true, v.fechaBaja = local datetime
+            where v.estudio.id = :estudioId and v.activo = true""")
+    int desactivarPorEstudio(@Param("estudioId") UUID estudioId);
+
+    /**
+     * Reactiva los que dio de baja una cascada, salvo los que siguen colgando
+     * de un estudio inactivo.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update versioned Videojuego v
+            set v.activo = true, v.desactivadoEnCascada = false, v.fechaBaja = null
+            where v.categoria.id = :categoriaId and v.desactivadoEnCascada = true
+                and v.estudio.id in (select e.id from Estudio e where e.activo = true)""")
+    int reactivarPorCategoria(@Param("categoriaId") UUID categoriaId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update versioned Videojuego v
+            set v.activo = true, v.desactivadoEnCascada = false, v.fechaBaja = null
+            where v.estudio.id = :estudioId and v.desactivadoEnCascada = true
+                and v.categoria.id in (select c.id from Categoria c where c.activo = true)""")
+    int reactivarPorEstudio(@Param("estudioId") UUID estudioId);
+
+    /**
+     * Los dados de baja en cascada esperan a que la categoría y el estudio
+     * que estén de baja también hayan pasado la retención: mientras alguno de
+     * los dos pueda reactivarse, la reactivación tiene que encontrarlos.
+     */
+    @Query("""
+            select v.id from Videojuego v
+            where v.activo = false and v.fechaBaja < :limite
+                and (v.desactivadoEnCascada = false
+                    or (v.categoria.activo = true or v.categoria.fechaBaja < :limite)
+                        and (v.estudio.activo = true or v.estudio.fechaBaja < :limite))
+            order by v.fechaBaja, v.id""")
+    List<UUID> findArchivables(@Param("limite") LocalDateTime limite, Limit limit);
+
+    @Query("""
+            select count(v) from Videojuego v
+            where v.activo = false and v.fechaBaja < :limite
+                and (v.desactivadoEnCascada = false
+                    or (v.categoria.activo = true or v.categoria.fechaBaja < :limite)
+                        and (v.estudio.activo = true or v.estudio.fechaBaja < :limite))""")
+    long countArchivables(@Param("limite") LocalDateTime limite);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Videojuego v where v.id in :ids and v.activo = false and v.fechaBaja < :limite")
+    int deleteArchivables(@Param("ids") Collection<UUID> ids, @Param("limite") LocalDateTime limite);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select new com.uncode.videojuegos.model.dto.VideojuegoIndexado(v.id, v.nombre, v.descripcion) "
+            + "from Videojuego v where v.activo = true")
+    Stream<VideojuegoIndexado> streamIndice();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("""
+            select new com.uncode.videojuegos.model.dto.VideojuegoIndexado(v.id, v.nombre, v.descripcion)
+            from Videojuego v
+            where v.activo = true
+                and (:categoriaId is null or v.categoria.id = :categoriaId)
+                and (:estudioId is null or v.estudio.id = :estudioId)""")
+    Stream<VideojuegoIndexado> streamIndice(@Param("categoriaId") UUID categoriaId,
+            @Param("estudioId") UUID estudioId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select v.id from Videojuego v
+            where v.desactivadoEnCascada = true
+                and (:categoriaId is null or v.categoria.id = :categoriaId)
+                and (:estudioId is null or v.estudio.id = :estudioId)""")
+    Stream<UUID> streamDesactivadosEnCascada(@Param("categoriaId") UUID categoriaId,
+            @Param("estudioId") UUID estudioId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("""
+            select new com.uncode.videojuegos.model.dto.VideojuegoExportacion(
+                v.id, v.nombre, v.rutaimg, v.precio, v.cantidad, v.descripcion, v.oferta, v.lanzamiento,
+                c.nombre, e.nombre)
+            from Videojuego v join v.categoria c join v.estudio e
+            where v.activo = true
+                and (:categoriaId is null or c.id = :categoriaId)
+                and (:estudioId is null or e.id = :estudioId)
+                and (:oferta is null or v.oferta = :oferta)""")
+    Stream<VideojuegoExportacion> streamExportacion(@Param("categoriaId") UUID categoriaId,
+            @Param("estudioId") UUID estudioId, @Param("oferta") Boolean oferta);
+
 }
@@ -0,0 +1,51 @@
+package com.uncode.videojuegos.model.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.uncode.videojuegos.model.dto.FiltroVideojuego;
+import com.uncode.videojuegos.model.entity.Videojuego;
+
+public final class VideojuegoSpecifications {
+
+    private VideojuegoSpecifications() {
+    }
+
+    public static Specification<Videojuego> activos() {
+        return (root, query, cb) -> cb.isTrue(root.get("activo"));
+    }
+
+    public static Specification<Videojuego> filtro(FiltroVideojuego filtro) {
+        return (root, query, cb) -> {
+            var predicado = cb.isTrue(root.get("activo"));
+            if (filtro.getCategoriaId() != null)
+                predicado = cb.and(predicado, cb.equal(root.get("categoria").get("id"), filtro.getCategoriaId()));
+            if (filtro.getEstudioId() != null)
+                predicado = cb.and(predicado, cb.equal(root.get("estudio").get("id"), filtro.getEstudioId()));
+            if (filtro.getOferta() != null)
+                predicado = cb.and(predicado, cb.equal(root.get("oferta"), filtro.getOferta()));
+            if (filtro.getPrecioMin() != null)
+                predicado = cb.and(predicado, cb.ge(root.get("precio"), filtro.getPrecioMin()));
+            if (filtro.getPrecioMax() != null)
+                predicado = cb.and(predicado, cb.le(root.get("precio"), filtro.getPrecioMax()));
+            if (filtro.getLanzamientoDesde() != null)
+                predicado = cb.and(predicado,
+                        cb.greaterThanOrEqualTo(root.get("lanzamiento"), filtro.getLanzamientoDesde()));
+            if (filtro.getLanzamientoHasta() != null)
+                predicado = cb.and(predicado,
+                        cb.lessThanOrEqualTo(root.get("lanzamiento"), filtro.getLanzamientoHasta()));
+            return predicado;
+        };
+    }
+
+    public static Specification<Videojuego> despues(String nombre, UUID id) {
+        return (root, query, cb) -> cb.or(cb.greaterThan(root.get("nombre"), nombre),
+                cb.and(cb.equal(root.get("nombre"), nombre), cb.greaterThan(root.<UUID>get("id"), id)));
+    }
+
+    public static Specification<Videojuego> antes(String nombre, UUID id) {
+        return (root, query, cb) -> cb.or(cb.lessThan(root.get("nombre"), nombre),
+                cb.and(cb.equal(root.get("nombre"), nombre), cb.lessThan(root.<UUID>get("id"), id)));
+    }
+}
@@ -1,115 +1,240 @@
 package com.uncode.videojuegos.model.service;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.entity.Videojuego;
 import com.uncode.videojuegos.model.repository.CategoriaRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.evento.CascadaVideojuegos;
+import com.uncode.videojuegos.model.service.evento.CatalogoModificado;
+import com.uncode.videojuegos.model.service.exception.ConflictException;
+import com.uncode.videojuegos.model.service.exception.ConstraintViolations;
+import com.uncode.videojuegos.model.service.exception.NotFoundException;
 import com.uncode.videojuegos.model.service.exception.ServiceException;
 import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+import com.uncode.videojuegos.model.service.pagina.Cursor;
+import com.uncode.videojuegos.model.service.pagina.Pagina;
+import com.uncode.videojuegos.model.service.pagina.Paginador;
+import com.uncode.videojuegos.model.service.pagina.Recorrido;
+import com.uncode.videojuegos.model.service.validacion.Validacion;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 
 @Service
 public class CategoriaService {
 
+    public static final String CACHE = "categoria";
+    public static final String CACHE_ACTIVOS = "categorias";
+
     @Autowired
     private CategoriaRepository repository;
+    @PersistenceContext
+    private EntityManager entityManager;
+    @Autowired
+    private VideojuegoRepository videojuegoRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
-    public void validate(String nombre) throws ServiceException {
-        try {
-            if (nombre.isBlank()) {
-                throw new ServiceException(ServiceExceptionMessages.blank(Categoria.class, "nombre"));
-            }
-        } catch (ServiceException e) {
-            throw e;
-        } catch (NullPointerException e) {
-            throw new ServiceException(ServiceExceptionMessages.$null(Categoria.class, "nombre"));
-        } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+    public Validacion validar(String nombre) {
+        return new Validacion().noVacio(Categoria.class, "nombre", nombre);
+    }
+
+    private ServiceException unique(DataIntegrityViolationException e, String nombre) {
+        if (ConstraintViolations.violates(e, Categoria.UK_NOMBRE)) {
+            return new ServiceException(ServiceExceptionMessages.exists(Categoria.class, "nombre", nombre));
         }
+        return new ServiceException(ServiceExceptionMessages.ANY, e);
     }
 
-    @Transactional
+    @Transactional(rollbackOn = ServiceException.class)
+    @CacheEvict(cacheNames = { CACHE, CACHE_ACTIVOS }, allEntries = true)
     public UUID create(String nombre) throws ServiceException {
         try {
-            validate(nombre);
-            if (repository.existsByActivoTrueAndNombre(nombre)) {
-                throw new ServiceException(ServiceExceptionMessages.exists(Categoria.class, "nombre", nombre));
-            }
+            validar(nombre).orThrow();
             var categoria = Categoria.builder()
             .nombre(nombre)
             .build();
-            repository.save(categoria);
+            repository.saveAndFlush(categoria);
+            eventPublisher.publishEvent(CatalogoModificado.of(Categoria.class));
             return categoria.getId();
+        } catch (DataIntegrityViolationException e) {
+            throw unique(e, nombre);
         } catch (ServiceException e) {
             throw e;
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
     }
 
-    @Transactional
+    @Transactional(rollbackOn = ServiceException.class)
+    @CacheEvict(cacheNames = { CACHE, CACHE_ACTIVOS }, allEntries = true)
     public void update(UUID id, String nombre) throws ServiceException {
+        update(id, nombre, null);
+    }
+
+    @Transactional(rollbackOn = ServiceException.class)
+    @CacheEvict(cacheNames = { CACHE, CACHE_ACTIVOS }, allEntries = true)
+    public void update(UUID id, String nombre, Long version) throws ServiceException {
         try {
-            validate(nombre);
-            if (repository.existsByIdNotAndActivoTrueAndNombre(id, nombre)) {
-                throw new ServiceException(ServiceExceptionMessages.exists(Categoria.class, "nombre", nombre));
-            }
+            validar(nombre).orThrow();
             var categoria = repository.findByIdAndActivoTrue(id)
-                    .orElseThrow(() -> new ServiceException(ServiceExceptionMessages.notFound(Categoria.class)));
+                    .orElseThrow(() -> new NotFoundException(ServiceExceptionMessages.notFound(Categoria.class)));
+            if (version != null && !version.equals(categoria.getVersion()))
+                throw new ConflictException(ServiceExceptionMessages.conflict(Categoria.class));
             categoria.setNombre(nombre);
-            repository.save(categoria);
+            repository.saveAndFlush(categoria);
+            eventPublisher.publishEvent(CatalogoModificado.of(Categoria.class));
+        } catch (DataIntegrityViolationException e) {
+            throw unique(e, nombre);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ConflictException(ServiceExceptionMessages.conflict(Categoria.class));
         } catch (ServiceException e) {
             throw e;
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
 
     }
 
-    @Transactional
-    public void delete(UUID id) throws ServiceException {
+    /**
+     * Da de baja la categoría y, en la misma transacción y con una sola sentencia,
+     * sus videojuegos activos. Devuelve cuántos videojuegos se dieron de baja.
+     */
+    @Transactional(rollbackOn = ServiceException.class)
+    @CacheEvict(cacheNames = { CACHE, CACHE_ACTIVOS }, allEntries = true)
+    public int delete(UUID id) throws ServiceException {
         try {
-            var categoria = repository.findByIdAndActivoTrue(id)
-                    .orElseThrow(() -> new ServiceException(ServiceExceptionMessages.notFound(Categoria.class)));
-            categoria.setActivo(false);
-            repository.save(categoria);
+            if (repository.desactivar(id) == 0)
+                throw new NotFoundException(ServiceExceptionMessages.notFound(Categoria.class));
+            var videojuegos = videojuegoRepository.desactivarPorCategoria(id);
+            publicarCascada(id, false);
+            return videojuegos;
         } catch (ServiceException e) {
             throw e;
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
+    }
 
+    /**
+     * Reactiva la categoría y los videojuegos que se dieron de baja con
+     * ella, salvo los que siguen colgando de un estudio inactivo. Devuelve
+     * cuántos videojuegos se reactivaron.
+     */
+    @Transactional(rollbackOn = ServiceException.class)
+    @CacheEvict(cacheNames = { CACHE, CACHE_ACTIVOS }, allEntries = true)
+    public int reactivate(UUID id) throws ServiceException {
+        try {
+            if (repository.reactivar(id) == 0)
+                throw new NotFoundException(ServiceExceptionMessages.notFound(Categoria.class));
+            var videojuegos = videojuegoRepository.reactivarPorCategoria(id);
+            publicarCascada(id, true);
+            return videojuegos;
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.violates(e, Categoria.UK_NOMBRE))
+                throw new ConflictException(ServiceExceptionMessages.reactivationConflict(Categoria.class));
+            if (ConstraintViolations.violates(e, Videojuego.UK_NOMBRE))
+                throw new ConflictException(ServiceExceptionMessages.reactivationConflict(Videojuego.class));
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
     }
 
+    private void publicarCascada(UUID id, boolean activo) {
+        eventPublisher.publishEvent(CatalogoModificado.of(Categoria.class));
+        eventPublisher.publishEvent(CatalogoModificado.of(Videojuego.class));
+        eventPublisher.publishEvent(CascadaVideojuegos.of(Categoria.class, id, activo));
+    }
+
+    /**
+     * Todos los activos en orden, por lotes; ver {@link Paginador#recorrer}.
+     */
+    public Recorrido<Categoria> iterateAll() throws ServiceException {
+        try {
+            return Paginador.recorrer(categoria -> new Cursor(categoria.getNombre(), categoria.getId()),
+                    repository::findByActivoTrueOrderByNombreAscIdAsc,
+                    (cursor, limite) -> repository.findPaginaSiguiente(cursor.getNombre(), cursor.getId(), limite),
+                    lote -> lote.forEach(entityManager::detach));
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    @Lectura
+    @Cacheable(CACHE_ACTIVOS)
     public Set<Categoria> getAll() throws ServiceException {
         try {
-            return new HashSet<>(repository.findByActivoTrue());
+            return Collections.unmodifiableSet(new HashSet<>(repository.findByActivoTrue()));
         } catch (Exception e) {
             System.err.println(e.getMessage());
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    @Lectura
+    public List<Categoria> getAll(Collection<UUID> ids) throws ServiceException {
+        try {
+            if (ids.size() > Paginador.TAMANIO_MAXIMO)
+                throw new ServiceException(ServiceExceptionMessages.tooMany("ids", Paginador.TAMANIO_MAXIMO));
+            return ids.isEmpty() ? List.of() : repository.findByIdInAndActivoTrue(ids);
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    @Lectura
+    public Pagina<Categoria> getPage(String despues, String antes, int tamanio) throws ServiceException {
+        try {
+            return Paginador.keyset(despues, antes, Paginador.tamanio(tamanio),
+                    categoria -> new Cursor(categoria.getNombre(), categoria.getId()),
+                    repository::findByActivoTrueOrderByNombreAscIdAsc,
+                    (cursor, limite) -> repository.findPaginaSiguiente(cursor.getNombre(), cursor.getId(), limite),
+                    (cursor, limite) -> repository.findPaginaAnterior(cursor.getNombre(), cursor.getId(), limite));
+        } catch (IllegalArgumentException e) {
+            throw new ServiceException(ServiceExceptionMessages.invalid("cursor"));
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
     }
 
+    @Lectura
+    @Cacheable(cacheNames = CACHE, unless = "#result == null")
     public Optional<Categoria> get(UUID id) throws ServiceException {
         try {
             return repository.findByIdAndActivoTrue(id);
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
     }
 
+    @Lectura
     public Optional<Categoria> get(String nombre) throws ServiceException {
         try {
             return repository.findByActivoTrueAndNombre(nombre);
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
     }
 }
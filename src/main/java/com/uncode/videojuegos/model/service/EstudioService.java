@@ -1,114 +1,239 @@
 package com.uncode.videojuegos.model.service;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import com.uncode.videojuegos.model.entity.Estudio;
+import com.uncode.videojuegos.model.entity.Videojuego;
 import com.uncode.videojuegos.model.repository.EstudioRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.evento.CascadaVideojuegos;
+import com.uncode.videojuegos.model.service.evento.CatalogoModificado;
+import com.uncode.videojuegos.model.service.exception.ConflictException;
+import com.uncode.videojuegos.model.service.exception.ConstraintViolations;
+import com.uncode.videojuegos.model.service.exception.NotFoundException;
 import com.uncode.videojuegos.model.service.exception.ServiceException;
 import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+import com.uncode.videojuegos.model.service.pagina.Cursor;
+import com.uncode.videojuegos.model.service.pagina.Pagina;
+import com.uncode.videojuegos.model.service.pagina.Paginador;
+import com.uncode.videojuegos.model.service.pagina.Recorrido;
+import com.uncode.videojuegos.model.service.validacion.Validacion;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 
 @Service
 public class EstudioService {
 
+    public static final String CACHE = "estudio";
+    public static final String CACHE_ACTIVOS = "estudios";
+
     @Autowired
     private EstudioRepository repository;
+    @PersistenceContext
+    private EntityManager entityManager;
+    @Autowired
+    private VideojuegoRepository videojuegoRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
-    public void validate(String nombre) throws ServiceException {
-        try {
-            if (nombre.isBlank()) {
-                throw new ServiceException(ServiceExceptionMessages.blank(Estudio.class, "nombre"));
-            }
-        } catch (ServiceException e) {
-            throw e;
-        } catch (NullPointerException e) {
-            throw new ServiceException(ServiceExceptionMessages.$null(Estudio.class, "nombre"));
-        } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+    public Validacion validar(String nombre) {
+        return new Validacion().noVacio(Estudio.class, "nombre", nombre);
+    }
+
+    private ServiceException unique(DataIntegrityViolationException e, String nombre) {
+        if (ConstraintViolations.violates(e, Estudio.UK_NOMBRE)) {
+            return new ServiceException(ServiceExceptionMessages.exists(Estudio.class, "nombre", nombre));
         }
+        return new ServiceException(ServiceExceptionMessages.ANY, e);
     }
 
-    @Transactional
+    @Transactional(rollbackOn = ServiceException.class)
+    @CacheEvict(cacheNames = { CACHE, CACHE_ACTIVOS }, allEntries = true)
     public UUID create(String nombre) throws ServiceException {
         try {
-            validate(nombre);
-            if (repository.existsByActivoTrueAndNombre(nombre)) {
-                throw new ServiceException(ServiceExceptionMessages.exists(Estudio.class, "nombre", nombre));
-            }
+            validar(nombre).orThrow();
             var estudio = Estudio.builder()
                     .nombre(nombre)
                     .build();
-            repository.save(estudio);
+            repository.saveAndFlush(estudio);
+            eventPublisher.publishEvent(CatalogoModificado.of(Estudio.class));
             return estudio.getId();
+        } catch (DataIntegrityViolationException e) {
+            throw unique(e, nombre);
         } catch (ServiceException e) {
             throw e;
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
     }
 
-    @Transactional
+    @Transactional(rollbackOn = ServiceException.class)
+    @CacheEvict(cacheNames = { CACHE, CACHE_ACTIVOS }, allEntries = true)
     public void update(UUID id, String nombre) throws ServiceException {
+        update(id, nombre, null);
+    }
+
+    @Transactional(rollbackOn = ServiceException.class)
+    @CacheEvict(cacheNames = { CACHE, CACHE_ACTIVOS }, allEntries = true)
+    public void update(UUID id, String nombre, Long version) throws ServiceException {
         try {
-            validate(nombre);
-            if (repository.existsByIdNotAndActivoTrueAndNombre(id, nombre)) {
-                throw new ServiceException(ServiceExceptionMessages.exists(Estudio.class, "nombre", nombre));
-            }
+            validar(nombre).orThrow();
             var estudio = repository.findByIdAndActivoTrue(id)
-                    .orElseThrow(() -> new ServiceException(ServiceExceptionMessages.notFound(Estudio.class)));
+                    .orElseThrow(() -> new NotFoundException(ServiceExceptionMessages.notFound(Estudio.class)));
+            if (version != null && !version.equals(estudio.getVersion()))
+                throw new ConflictException(ServiceExceptionMessages.conflict(Estudio.class));
             estudio.setNombre(nombre);
-            repository.save(estudio);
+            repository.saveAndFlush(estudio);
+            eventPublisher.publishEvent(CatalogoModificado.of(Estudio.class));
+        } catch (DataIntegrityViolationException e) {
+            throw unique(e, nombre);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ConflictException(ServiceExceptionMessages.conflict(Estudio.class));
         } catch (ServiceException e) {
             throw e;
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
 
     }
 
-    @Transactional
-    public void delete(UUID id) throws ServiceException {
+    /**
+     * Da de baja el estudio y, en la misma transacción y con una sola sentencia,
+     * sus videojuegos activos. Devuelve cuántos videojuegos se dieron de baja.
+     */
+    @Transactional(rollbackOn = ServiceException.class)
+    @CacheEvict(cacheNames = { CACHE, CACHE_ACTIVOS }, allEntries = true)
+    public int delete(UUID id) throws ServiceException {
         try {
-            var estudio = repository.findByIdAndActivoTrue(id)
-                    .orElseThrow(() -> new ServiceException(ServiceExceptionMessages.notFound(Estudio.class)));
-            estudio.setActivo(false);
-            repository.save(estudio);
+            if (repository.desactivar(id) == 0)
+                throw new NotFoundException(ServiceExceptionMessages.notFound(Estudio.class));
+            var videojuegos = videojuegoRepository.desactivarPorEstudio(id);
+            publicarCascada(id, false);
+            return videojuegos;
         } catch (ServiceException e) {
             throw e;
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
+    }
 
+    /**
+     * Reactiva el estudio y los videojuegos que se dieron de baja con
+     * él, salvo los que siguen colgando de una categoría inactiva. Devuelve
+     * cuántos videojuegos se reactivaron.
+     */
+    @Transactional(rollbackOn = ServiceException.class)
+    @CacheEvict(cacheNames = { CACHE, CACHE_ACTIVOS }, allEntries = true)
+    public int reactivate(UUID id) throws ServiceException {
+        try {
+            if (repository.reactivar(id) == 0)
+                throw new NotFoundException(ServiceExceptionMessages.notFound(Estudio.class));
+            var videojuegos = videojuegoRepository.reactivarPorEstudio(id);
+            publicarCascada(id, true);
+            return videojuegos;
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.violates(e, Estudio.UK_NOMBRE))
+                throw new ConflictException(ServiceExceptionMessages.reactivationConflict(Estudio.class));
+            if (ConstraintViolations.violates(e, Videojuego.UK_NOMBRE))
+                throw new ConflictException(ServiceExceptionMessages.reactivationConflict(Videojuego.class));
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
     }
 
+    private void publicarCascada(UUID id, boolean activo) {
+        eventPublisher.publishEvent(CatalogoModificado.of(Estudio.class));
+        eventPublisher.publishEvent(CatalogoModificado.of(Videojuego.class));
+        eventPublisher.publishEvent(CascadaVideojuegos.of(Estudio.class, id, activo));
+    }
+
+    /**
+     * Todos los activos en orden, por lotes; ver {@link Paginador#recorrer}.
+     */
+    public Recorrido<Estudio> iterateAll() throws ServiceException {
+        try {
+            return Paginador.recorrer(estudio -> new Cursor(estudio.getNombre(), estudio.getId()),
+                    repository::findByActivoTrueOrderByNombreAscIdAsc,
+                    (cursor, limite) -> repository.findPaginaSiguiente(cursor.getNombre(), cursor.getId(), limite),
+                    lote -> lote.forEach(entityManager::detach));
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    @Lectura
+    @Cacheable(CACHE_ACTIVOS)
     public Set<Estudio> getAll() throws ServiceException {
         try {
-            return new HashSet<>(repository.findByActivoTrue());
+            return Collections.unmodifiableSet(new HashSet<>(repository.findByActivoTrue()));
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    @Lectura
+    public List<Estudio> getAll(Collection<UUID> ids) throws ServiceException {
+        try {
+            if (ids.size() > Paginador.TAMANIO_MAXIMO)
+                throw new ServiceException(ServiceExceptionMessages.tooMany("ids", Paginador.TAMANIO_MAXIMO));
+            return ids.isEmpty() ? List.of() : repository.findByIdInAndActivoTrue(ids);
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    @Lectura
+    public Pagina<Estudio> getPage(String despues, String antes, int tamanio) throws ServiceException {
+        try {
+            return Paginador.keyset(despues, antes, Paginador.tamanio(tamanio),
+                    estudio -> new Cursor(estudio.getNombre(), estudio.getId()),
+                    repository::findByActivoTrueOrderByNombreAscIdAsc,
+                    (cursor, limite) -> repository.findPaginaSiguiente(cursor.getNombre(), cursor.getId(), limite),
+                    (cursor, limite) -> repository.findPaginaAnterior(cursor.getNombre(), cursor.getId(), limite));
+        } catch (IllegalArgumentException e) {
+            throw new ServiceException(ServiceExceptionMessages.invalid("cursor"));
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
     }
 
+    @Lectura
+    @Cacheable(cacheNames = CACHE, unless = "#result == null")
     public Optional<Estudio> get(UUID id) throws ServiceException {
         try {
             return repository.findByIdAndActivoTrue(id);
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
     }
 
+    @Lectura
     public Optional<Estudio> get(String nombre) throws ServiceException {
         try {
             return repository.findByActivoTrueAndNombre(nombre);
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
     }
 }
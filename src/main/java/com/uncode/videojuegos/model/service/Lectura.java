@@ -0,0 +1,22 @@
+package com.uncode.videojuegos.model.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Transacción de sólo lectura: Hibernate no revisa cambios al cerrarla y, con
+ * el perfil {@code replica}, la consulta va a la réplica salvo que la
+ * petición ya haya escrito. Dentro de una transacción de escritura se suma a
+ * ella y lee de la primaria.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(readOnly = true)
+public @interface Lectura {
+}
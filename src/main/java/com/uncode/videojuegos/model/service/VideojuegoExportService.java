@@ -0,0 +1,102 @@
+package com.uncode.videojuegos.model.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uncode.videojuegos.model.dto.VideojuegoExportacion;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+import com.uncode.videojuegos.model.service.exportacion.FormatoExportacion;
+
+@Service
+public class VideojuegoExportService {
+
+    private static final int BUFFER = 64 * 1024;
+    private static final String CABECERA = "id,nombre,rutaimg,precio,cantidad,descripcion,oferta,lanzamiento,categoria,estudio";
+
+    @Autowired
+    private VideojuegoRepository repository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Lectura
+    public long export(OutputStream out, FormatoExportacion formato, UUID categoriaId, UUID estudioId,
+            Boolean oferta) throws ServiceException {
+        try (var filas = repository.streamExportacion(categoriaId, estudioId, oferta)) {
+            var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER);
+            var iterador = filas.iterator();
+            long total = 0;
+            if (formato == FormatoExportacion.JSONL) {
+                try (var json = objectMapper.writer()
+                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .withRootValueSeparator("\n")
+                        .writeValues(writer)) {
+                    for (; iterador.hasNext(); total++) {
+                        json.write(iterador.next());
+                    }
+                }
+                if (total > 0) {
+                    writer.write('\n');
+                }
+            } else {
+                writer.write(CABECERA);
+                writer.write('\n');
+                for (; iterador.hasNext(); total++) {
+                    csv(writer, iterador.next());
+                }
+            }
+            writer.flush();
+            return total;
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    private static void csv(Writer writer, VideojuegoExportacion fila) throws IOException {
+        writer.write(fila.getId().toString());
+        writer.write(',');
+        campo(writer, fila.getNombre());
+        writer.write(',');
+        campo(writer, fila.getRutaimg());
+        writer.write(',');
+        writer.write(Float.toString(fila.getPrecio()));
+        writer.write(',');
+        writer.write(Short.toString(fila.getCantidad()));
+        writer.write(',');
+        campo(writer, fila.getDescripcion());
+        writer.write(',');
+        writer.write(Boolean.toString(fila.isOferta()));
+        writer.write(',');
+        writer.write(fila.getLanzamiento() == null ? "" : fila.getLanzamiento().toString());
+        writer.write(',');
+        campo(writer, fila.getCategoria());
+        writer.write(',');
+        campo(writer, fila.getEstudio());
+        writer.write('\n');
+    }
+
+    private static void campo(Writer writer, String valor) throws IOException {
+        if (valor == null) {
+            return;
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0
+                && valor.indexOf('\r') < 0) {
+            writer.write(valor);
+            return;
+        }
+        writer.write('"');
+        writer.write(valor.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
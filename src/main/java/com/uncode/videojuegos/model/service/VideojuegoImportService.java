@@ -0,0 +1,259 @@
+package com.uncode.videojuegos.model.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.entity.Estudio;
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.repository.CategoriaRepository;
+import com.uncode.videojuegos.model.repository.EstudioRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.evento.ImagenPendiente;
+import com.uncode.videojuegos.model.service.evento.VideojuegoModificado;
+import com.uncode.videojuegos.model.service.exception.NotFoundException;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+import com.uncode.videojuegos.model.service.importacion.FilaImportacion;
+import com.uncode.videojuegos.model.service.importacion.LectorCsv;
+import com.uncode.videojuegos.model.service.importacion.ResultadoImportacion;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Service
+public class VideojuegoImportService {
+
+    public static final int LOTE = 500;
+
+    @Autowired
+    private VideojuegoRepository repository;
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+    @Autowired
+    private EstudioRepository estudioRepository;
+    @Autowired
+    private VideojuegoService videojuegoService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ResultadoImportacion importCsv(InputStream in) throws ServiceException {
+        try {
+            return importar(new LectorCsv(in));
+        } catch (IOException e) {
+            throw new ServiceException(ServiceExceptionMessages.invalid("archivo"));
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    public ResultadoImportacion importJson(InputStream in) throws ServiceException {
+        try (var filas = objectMapper.readerFor(FilaImportacion.class).<FilaImportacion>readValues(in)) {
+            return importar(new Iterator<>() {
+                private int fila = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return filas.hasNext();
+                }
+
+                @Override
+                public FilaImportacion next() {
+                    var siguiente = filas.next();
+                    siguiente.setFila(++fila);
+                    return siguiente;
+                }
+            });
+        } catch (IOException e) {
+            throw new ServiceException(ServiceExceptionMessages.invalid("archivo"));
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    private ResultadoImportacion importar(Iterator<FilaImportacion> filas) {
+        var resultado = new ResultadoImportacion();
+        var vistos = new HashSet<String>();
+        var categorias = new HashMap<String, Categoria>();
+        var estudios = new HashMap<String, Estudio>();
+        var lote = new ArrayList<FilaImportacion>(LOTE);
+        var fila = 0;
+        while (true) {
+            FilaImportacion siguiente;
+            try {
+                if (!filas.hasNext()) {
+                    break;
+                }
+                siguiente = filas.next();
+            } catch (RuntimeException e) {
+                resultado.error(fila + 1, ServiceExceptionMessages.invalid("archivo"));
+                break;
+            }
+            fila = siguiente.getFila();
+            lote.add(siguiente);
+            if (lote.size() == LOTE) {
+                procesar(lote, resultado, vistos, categorias, estudios);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            procesar(lote, resultado, vistos, categorias, estudios);
+        }
+        return resultado;
+    }
+
+    private void procesar(List<FilaImportacion> lote, ResultadoImportacion resultado, Set<String> vistos,
+            Map<String, Categoria> categorias, Map<String, Estudio> estudios) {
+        var categoriasNuevas = nuevos(lote.stream().map(FilaImportacion::getCategoria), categorias);
+        if (!categoriasNuevas.isEmpty()) {
+            categoriaRepository.findByActivoTrueAndNombreIn(categoriasNuevas)
+                    .forEach(categoria -> categorias.put(categoria.getNombre(), categoria));
+        }
+        var estudiosNuevos = nuevos(lote.stream().map(FilaImportacion::getEstudio), estudios);
+        if (!estudiosNuevos.isEmpty()) {
+            estudioRepository.findByActivoTrueAndNombreIn(estudiosNuevos)
+                    .forEach(estudio -> estudios.put(estudio.getNombre(), estudio));
+        }
+        var nombres = nuevos(lote.stream().map(FilaImportacion::getNombre), Map.of());
+        var existentes = nombres.isEmpty() ? Set.<String>of() : repository.findNombresActivos(nombres);
+
+        var videojuegos = new ArrayList<Videojuego>(lote.size());
+        var filas = new ArrayList<FilaImportacion>(lote.size());
+        for (var fila : lote) {
+            try {
+                var videojuego = videojuego(fila, categorias, estudios);
+                if (existentes.contains(videojuego.getNombre()) || !vistos.add(videojuego.getNombre())) {
+                    throw new ServiceException(
+                            ServiceExceptionMessages.exists(Videojuego.class, "nombre", videojuego.getNombre()));
+                }
+                videojuegos.add(videojuego);
+                filas.add(fila);
+            } catch (ServiceException e) {
+                resultado.error(fila.getFila(), e.getMessage());
+            }
+        }
+        if (videojuegos.isEmpty()) {
+            return;
+        }
+        try {
+            guardar(videojuegos);
+            resultado.setImportados(resultado.getImportados() + videojuegos.size());
+        } catch (Exception e) {
+            // Una sola fila que la base rechaza deshace el lote: se reintenta de a una para guardar las
+            // válidas y reportar el error real de cada fila
+            filas.forEach(fila -> procesar(fila, resultado, vistos, categorias, estudios));
+        }
+    }
+
+    private void procesar(FilaImportacion fila, ResultadoImportacion resultado, Set<String> vistos,
+            Map<String, Categoria> categorias, Map<String, Estudio> estudios) {
+        try {
+            guardar(List.of(videojuego(fila, categorias, estudios)));
+            resultado.setImportados(resultado.getImportados() + 1);
+            return;
+        } catch (ServiceException e) {
+            resultado.error(fila.getFila(), e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            resultado.error(fila.getFila(), VideojuegoService.unique(e, fila.getNombre()).getMessage());
+        } catch (Exception e) {
+            resultado.error(fila.getFila(), ServiceExceptionMessages.ANY);
+        }
+        vistos.remove(fila.getNombre());
+    }
+
+    private void guardar(List<Videojuego> videojuegos) {
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.saveAll(videojuegos);
+            repository.flush();
+            videojuegos.forEach(videojuego -> {
+                eventPublisher.publishEvent(VideojuegoModificado.of(videojuego));
+                eventPublisher.publishEvent(ImagenPendiente.of(videojuego.getId(), videojuego.getRutaimg()));
+            });
+            entityManager.clear();
+        });
+    }
+
+    private static Set<String> nuevos(Stream<String> nombres, Map<String, ?> conocidos) {
+        return nombres.filter(Objects::nonNull)
+                .filter(nombre -> !conocidos.containsKey(nombre))
+                .collect(Collectors.toSet());
+    }
+
+    private Videojuego videojuego(FilaImportacion fila, Map<String, Categoria> categorias,
+            Map<String, Estudio> estudios) throws ServiceException {
+        float precio;
+        short cantidad;
+        LocalDate lanzamiento;
+        try {
+            precio = Float.parseFloat(fila.getPrecio().trim());
+        } catch (NullPointerException | NumberFormatException e) {
+            throw new ServiceException(ServiceExceptionMessages.invalid("precio"));
+        }
+        try {
+            cantidad = Short.parseShort(fila.getCantidad().trim());
+        } catch (NullPointerException | NumberFormatException e) {
+            throw new ServiceException(ServiceExceptionMessages.invalid("cantidad"));
+        }
+        try {
+            lanzamiento = LocalDate.parse(fila.getLanzamiento().trim());
+        } catch (NullPointerException | DateTimeParseException e) {
+            throw new ServiceException(ServiceExceptionMessages.invalid("lanzamiento"));
+        }
+        videojuegoService.validar(fila.getNombre(), fila.getRutaimg(), precio, cantidad, fila.getDescripcion())
+                .orThrow();
+        var categoria = fila.getCategoria() == null ? null : categorias.get(fila.getCategoria());
+        if (categoria == null) {
+            throw new NotFoundException(ServiceExceptionMessages.notFound(Categoria.class));
+        }
+        var estudio = fila.getEstudio() == null ? null : estudios.get(fila.getEstudio());
+        if (estudio == null) {
+            throw new NotFoundException(ServiceExceptionMessages.notFound(Estudio.class));
+        }
+        return Videojuego.builder()
+                .nombre(fila.getNombre())
+                .rutaimg(fila.getRutaimg())
+                .precio(precio)
+                .cantidad(cantidad)
+                .descripcion(fila.getDescripcion())
+                .oferta(oferta(fila.getOferta()))
+                .lanzamiento(lanzamiento)
+                .categoria(categoria)
+                .estudio(estudio)
+                .build();
+    }
+
+    private static boolean oferta(String oferta) {
+        if (oferta == null) {
+            return false;
+        }
+        return switch (oferta.trim().toLowerCase()) {
+            case "true", "1", "si", "sí", "s", "yes" -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package com.uncode.videojuegos.model.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.evento.CatalogoModificado;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+import com.uncode.videojuegos.model.service.lote.CambioVideojuego;
+import com.uncode.videojuegos.model.service.lote.ResultadoLote;
+
+/**
+ * Actualización masiva con control optimista. Todos los cambios se aplican en
+ * una transacción con un {@code update} condicionado a la versión, así que un
+ * conflicto no bloquea ni revierte al resto. Si se piden reintentos, solo las
+ * filas en conflicto se vuelven a aplicar sobre su versión vigente, cada ronda
+ * en una transacción nueva.
+ */
+@Service
+public class VideojuegoLoteService {
+
+    public static final int MAXIMO_CAMBIOS = 1000;
+    public static final int MAXIMO_REINTENTOS = 5;
+
+    @Autowired
+    private VideojuegoRepository repository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public ResultadoLote update(List<CambioVideojuego> cambios, int reintentos) throws ServiceException {
+        try {
+            if (cambios.size() > MAXIMO_CAMBIOS)
+                throw new ServiceException(ServiceExceptionMessages.invalid("cantidad de cambios"));
+            var resultado = new ResultadoLote();
+            var pendientes = new ArrayList<CambioVideojuego>(cambios.size());
+            var vistos = new HashSet<UUID>();
+            for (var cambio : cambios) {
+                var error = validate(cambio);
+                if (error == null && !vistos.add(cambio.getId()))
+                    error = ServiceExceptionMessages.invalid("id");
+                if (error != null)
+                    resultado.error(cambio.getId(), error);
+                else
+                    pendientes.add(cambio);
+            }
+            var conflictos = aplicar(pendientes, resultado, false);
+            for (int ronda = 0; ronda < Math.min(reintentos, MAXIMO_REINTENTOS) && !conflictos.isEmpty(); ronda++) {
+                resultado.setReintentos(resultado.getReintentos() + conflictos.size());
+                conflictos = aplicar(conflictos, resultado, true);
+            }
+            conflictos.forEach(cambio -> resultado.getConflictos().add(cambio.getId()));
+            return resultado;
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    private String validate(CambioVideojuego cambio) {
+        if (cambio.getId() == null)
+            return ServiceExceptionMessages.$null(Videojuego.class, "id");
+        if (cambio.getPrecio() == null && cambio.getCantidad() == null && cambio.getOferta() == null)
+            return ServiceExceptionMessages.invalid("cambio");
+        if (cambio.getPrecio() != null && cambio.getPrecio() < 0)
+            return ServiceExceptionMessages.nonNegative("precio");
+        if (cambio.getCantidad() != null && cambio.getCantidad() < 0)
+            return ServiceExceptionMessages.nonNegative("cantidad");
+        return null;
+    }
+
+    /**
+     * Aplica los cambios en una transacción y devuelve los que chocaron con
+     * otra escritura. En un reintento la versión esperada es la vigente al
+     * comenzar la ronda.
+     */
+    private List<CambioVideojuego> aplicar(List<CambioVideojuego> cambios, ResultadoLote resultado,
+            boolean reintento) {
+        var conflictos = new ArrayList<CambioVideojuego>();
+        if (cambios.isEmpty()) {
+            return conflictos;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            var actualizados = resultado.getActualizados();
+            for (var cambio : cambios) {
+                Long version = cambio.getVersion();
+                if (reintento) {
+                    var vigente = repository.findVersionActiva(cambio.getId());
+                    if (vigente.isEmpty()) {
+                        resultado.error(cambio.getId(), ServiceExceptionMessages.notFound(Videojuego.class));
+                        continue;
+                    }
+                    version = vigente.get();
+                }
+                var filas = repository.actualizarCampos(cambio.getId(), version, cambio.getPrecio(),
+                        cambio.getCantidad(), cambio.getOferta());
+                if (filas == 1) {
+                    resultado.setActualizados(resultado.getActualizados() + 1);
+                } else if (repository.findVersionActiva(cambio.getId()).isPresent()) {
+                    conflictos.add(cambio);
+                } else {
+                    resultado.error(cambio.getId(), ServiceExceptionMessages.notFound(Videojuego.class));
+                }
+            }
+            if (resultado.getActualizados() > actualizados)
+                eventPublisher.publishEvent(CatalogoModificado.of(Videojuego.class));
+        });
+        return conflictos;
+    }
+}
@@ -1,19 +1,50 @@
 package com.uncode.videojuegos.model.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import com.uncode.videojuegos.model.dto.Facetas;
+import com.uncode.videojuegos.model.dto.FiltroVideojuego;
 import com.uncode.videojuegos.model.entity.Categoria;
 import com.uncode.videojuegos.model.entity.Estudio;
 import com.uncode.videojuegos.model.entity.Videojuego;
 import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoSpecifications;
+import com.uncode.videojuegos.model.service.busqueda.IndiceVideojuegos;
+import com.uncode.videojuegos.model.service.evento.CatalogoModificado;
+import com.uncode.videojuegos.model.service.evento.ImagenPendiente;
+import com.uncode.videojuegos.model.service.evento.VersionesCatalogo;
+import com.uncode.videojuegos.model.service.evento.VideojuegoModificado;
+import com.uncode.videojuegos.model.service.exception.ConflictException;
+import com.uncode.videojuegos.model.service.exception.ConstraintViolations;
+import com.uncode.videojuegos.model.service.exception.NotFoundException;
 import com.uncode.videojuegos.model.service.exception.ServiceException;
 import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+import com.uncode.videojuegos.model.service.pagina.CatalogoFiltrado;
+import com.uncode.videojuegos.model.service.pagina.Cursor;
+import com.uncode.videojuegos.model.service.pagina.Pagina;
+import com.uncode.videojuegos.model.service.pagina.Paginador;
+import com.uncode.videojuegos.model.service.pagina.Recorrido;
+import com.uncode.videojuegos.model.service.validacion.Validacion;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -21,43 +52,50 @@ import java.util.UUID;
 @Service
 public class VideojuegoService {
 
+    public static final int TAMANIO_PAGINA = 20;
+    public static final int TAMANIO_PAGINA_MAXIMO = Paginador.TAMANIO_MAXIMO;
+    public static final String CACHE_FACETAS = "facetas";
+    private static final Sort ORDEN = Sort.by("nombre", "id");
+    private static final Sort ORDEN_INVERSO = ORDEN.descending();
+
     @Autowired
     private VideojuegoRepository repository;
+    @PersistenceContext
+    private EntityManager entityManager;
     @Autowired
     private CategoriaService categoriaService;
     @Autowired
     private EstudioService estudioService;
+    @Autowired
+    private IndiceVideojuegos indice;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private VersionesCatalogo versiones;
 
-    private void validate(String nombre, String rutaimg, float precio, short cantidad, String descripcion)
-            throws ServiceException {
-        try {
-            if (nombre.isBlank())
-                throw new ServiceException(ServiceExceptionMessages.blank(Videojuego.class, "nombre"));
-            if (precio < 0)
-                throw new ServiceException(ServiceExceptionMessages.nonNegative("precio"));
-            if (cantidad < 0)
-                throw new ServiceException(ServiceExceptionMessages.nonNegative("cantidad"));
-            if (rutaimg.isBlank())
-                throw new ServiceException(ServiceExceptionMessages.blank(Videojuego.class, "rutaimg"));
-            if (descripcion.isBlank())
-                throw new ServiceException(ServiceExceptionMessages.blank(Videojuego.class, "descripcion"));
-        } catch (ServiceException e) {
-            throw e;
-        } catch (NullPointerException e) {
-            throw new ServiceException(ServiceExceptionMessages.$null(Videojuego.class, "nombre"));
-        } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+    public Validacion validar(String nombre, String rutaimg, float precio, short cantidad, String descripcion) {
+        return new Validacion()
+                .noVacio(Videojuego.class, "nombre", nombre)
+                .noNegativo("precio", precio)
+                .noNegativo("cantidad", cantidad)
+                .noVacio(Videojuego.class, "rutaimg", rutaimg)
+                .noVacio(Videojuego.class, "descripcion", descripcion);
+    }
+
+    static ServiceException unique(DataIntegrityViolationException e, String nombre) {
+        if (ConstraintViolations.violates(e, Videojuego.UK_NOMBRE)) {
+            return new ServiceException(ServiceExceptionMessages.exists(Videojuego.class, "nombre", nombre));
         }
+        return new ServiceException(ServiceExceptionMessages.ANY, e);
     }
 
-    @Transactional
+    @Transactional(rollbackOn = ServiceException.class)
     public UUID create(String nombre, String rutaimg, float precio, short cantidad, String descripcion, boolean oferta,
             LocalDate lanzamiento, UUID categoriaId, UUID estudioId) throws ServiceException {
         try {
-            validate(nombre, rutaimg, precio, cantidad, descripcion);
-            if (repository.existsByActivoTrueAndNombre(nombre)) {
-                throw new ServiceException(ServiceExceptionMessages.exists(Videojuego.class, "nombre", nombre));
-            }
+            validar(nombre, rutaimg, precio, cantidad, descripcion).orThrow();
             var videojuego = Videojuego.builder()
                     .nombre(nombre)
                     .rutaimg(rutaimg)
@@ -68,32 +106,46 @@ public class VideojuegoService {
                     .lanzamiento(lanzamiento)
                     .categoria(categoriaService.get(categoriaId)
                             .orElseThrow(
-                                    () -> new ServiceException(ServiceExceptionMessages.notFound(Categoria.class))))
+                                    () -> new NotFoundException(ServiceExceptionMessages.notFound(Categoria.class))))
                     .estudio(estudioService.get(estudioId)
-                            .orElseThrow(() -> new ServiceException(ServiceExceptionMessages.notFound(Estudio.class))))
+                            .orElseThrow(() -> new NotFoundException(ServiceExceptionMessages.notFound(Estudio.class))))
                     .build();
-            repository.save(videojuego);
+            repository.saveAndFlush(videojuego);
+            eventPublisher.publishEvent(VideojuegoModificado.of(videojuego));
+            eventPublisher.publishEvent(ImagenPendiente.of(videojuego.getId(), rutaimg));
             return videojuego.getId();
+        } catch (DataIntegrityViolationException e) {
+            throw unique(e, nombre);
         } catch (ServiceException e) {
             throw e;
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
     }
 
-    @Transactional
+    @Transactional(rollbackOn = ServiceException.class)
     public void update(UUID id, String nombre, String rutaimg, float precio, short cantidad, String descripcion,
             boolean oferta,
             LocalDate lanzamiento, UUID categoriaId, UUID estudioId) throws ServiceException {
+        update(id, nombre, rutaimg, precio, cantidad, descripcion, oferta, lanzamiento, categoriaId, estudioId, null);
+    }
+
+    @Transactional(rollbackOn = ServiceException.class)
+    public void update(UUID id, String nombre, String rutaimg, float precio, short cantidad, String descripcion,
+            boolean oferta, LocalDate lanzamiento, UUID categoriaId, UUID estudioId, Long version)
+            throws ServiceException {
         try {
-            validate(nombre, rutaimg, precio, cantidad, descripcion);
-            if (repository.existsByIdNotAndActivoTrueAndNombre(id, nombre)) {
-                throw new ServiceException(ServiceExceptionMessages.exists(Videojuego.class, "nombre", nombre));
-            }
+            validar(nombre, rutaimg, precio, cantidad, descripcion).orThrow();
             var videojuego = repository.findByIdAndActivoTrue(id)
-                    .orElseThrow(() -> new ServiceException(ServiceExceptionMessages.notFound(Videojuego.class)));
+                    .orElseThrow(() -> new NotFoundException(ServiceExceptionMessages.notFound(Videojuego.class)));
+            if (version != null && !version.equals(videojuego.getVersion()))
+                throw new ConflictException(ServiceExceptionMessages.conflict(Videojuego.class));
+            var imagenNueva = !rutaimg.equals(videojuego.getRutaimg());
             videojuego.setNombre(nombre);
-            videojuego.setRutaimg(rutaimg);
+            if (imagenNueva) {
+                videojuego.setRutaimg(rutaimg);
+                videojuego.setImagen(null);
+            }
             videojuego.setPrecio(precio);
             videojuego.setCantidad(cantidad);
             videojuego.setDescripcion(descripcion);
@@ -101,44 +153,227 @@ public class VideojuegoService {
             videojuego.setLanzamiento(lanzamiento);
             videojuego.setCategoria(categoriaService.get(categoriaId)
                     .orElseThrow(
-                            () -> new ServiceException(ServiceExceptionMessages.notFound(Categoria.class))));
+                            () -> new NotFoundException(ServiceExceptionMessages.notFound(Categoria.class))));
             videojuego.setEstudio(estudioService.get(estudioId)
-                    .orElseThrow(() -> new ServiceException(ServiceExceptionMessages.notFound(Estudio.class))));
-            repository.save(videojuego);
+                    .orElseThrow(() -> new NotFoundException(ServiceExceptionMessages.notFound(Estudio.class))));
+            repository.saveAndFlush(videojuego);
+            eventPublisher.publishEvent(VideojuegoModificado.of(videojuego));
+            if (imagenNueva)
+                eventPublisher.publishEvent(ImagenPendiente.of(id, rutaimg));
+        } catch (DataIntegrityViolationException e) {
+            throw unique(e, nombre);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ConflictException(ServiceExceptionMessages.conflict(Videojuego.class));
         } catch (ServiceException e) {
             throw e;
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
     }
 
-    @Transactional
+    @Transactional(rollbackOn = ServiceException.class)
     public void delete(UUID id) throws ServiceException {
         try {
             var videojuego = repository.findByIdAndActivoTrue(id)
-                    .orElseThrow(() -> new ServiceException(ServiceExceptionMessages.notFound(Videojuego.class)));
+                    .orElseThrow(() -> new NotFoundException(ServiceExceptionMessages.notFound(Videojuego.class)));
             videojuego.setActivo(false);
+            videojuego.setFechaBaja(LocalDateTime.now());
             repository.save(videojuego);
+            eventPublisher.publishEvent(VideojuegoModificado.of(videojuego));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ConflictException(ServiceExceptionMessages.conflict(Videojuego.class));
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    /**
+     * Descuenta unidades con un único {@code update} condicional: la base de
+     * datos serializa las reservas sobre la fila sin leerla antes, así que no
+     * se pierden actualizaciones ni se vende por encima de lo disponible.
+     */
+    @Transactional(rollbackOn = ServiceException.class)
+    public void reserve(UUID id, short unidades) throws ServiceException {
+        try {
+            new Validacion().positivo("cantidad", unidades).orThrow();
+            if (repository.reservar(id, unidades) == 0) {
+                var disponible = repository.findCantidadActiva(id)
+                        .orElseThrow(() -> new NotFoundException(ServiceExceptionMessages.notFound(Videojuego.class)));
+                throw new ServiceException(ServiceExceptionMessages.insufficient("cantidad", disponible));
+            }
+            eventPublisher.publishEvent(CatalogoModificado.of(Videojuego.class));
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    @Transactional(rollbackOn = ServiceException.class)
+    public void release(UUID id, short unidades) throws ServiceException {
+        try {
+            new Validacion().positivo("cantidad", unidades).orThrow();
+            if (repository.reponer(id, unidades, (short) (Short.MAX_VALUE - unidades)) == 0) {
+                repository.findCantidadActiva(id)
+                        .orElseThrow(() -> new NotFoundException(ServiceExceptionMessages.notFound(Videojuego.class)));
+                new Validacion().error("cantidad", ServiceExceptionMessages.invalid("cantidad")).orThrow();
+            }
+            eventPublisher.publishEvent(CatalogoModificado.of(Videojuego.class));
         } catch (ServiceException e) {
             throw e;
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
     }
 
+    /**
+     * Todos los activos en orden, por lotes; ver {@link Paginador#recorrer}.
+     */
+    public Recorrido<Videojuego> iterateAll() throws ServiceException {
+        try {
+            return Paginador.recorrer(videojuego -> new Cursor(videojuego.getNombre(), videojuego.getId()),
+                    repository::findByActivoTrueOrderByNombreAscIdAsc,
+                    (cursor, limite) -> repository.findPaginaSiguiente(cursor.getNombre(), cursor.getId(), limite),
+                    lote -> lote.forEach(entityManager::detach));
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    @Lectura
     public Set<Videojuego> getAll() throws ServiceException {
         try {
             return new HashSet<>(repository.findByActivoTrue());
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
     }
 
+    @Lectura
+    public List<Videojuego> search(String consulta, int limite) throws ServiceException {
+        try {
+            return porIds(indice.search(consulta, Math.max(1, Math.min(limite, TAMANIO_PAGINA_MAXIMO))));
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    /**
+     * Devuelve los videojuegos activos en el orden de {@code ids}, omitiendo
+     * los que no existen, con una sola consulta.
+     */
+    @Lectura
+    public List<Videojuego> getAll(Collection<UUID> ids) throws ServiceException {
+        try {
+            if (ids.size() > TAMANIO_PAGINA_MAXIMO)
+                throw new ServiceException(ServiceExceptionMessages.tooMany("ids", TAMANIO_PAGINA_MAXIMO));
+            return porIds(ids);
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    private List<Videojuego> porIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        var videojuegos = new HashMap<UUID, Videojuego>();
+        repository.findByIdInAndActivoTrue(ids).forEach(videojuego -> videojuegos.put(videojuego.getId(), videojuego));
+        return ids.stream().distinct().map(videojuegos::get).filter(Objects::nonNull).toList();
+    }
+
+    @Lectura
+    public Pagina<Videojuego> getPage(String despues, String antes, int tamanio) throws ServiceException {
+        try {
+            return Paginador.keyset(despues, antes, Paginador.tamanio(tamanio), VideojuegoService::cursor,
+                    repository::findByActivoTrueOrderByNombreAscIdAsc,
+                    (cursor, limite) -> repository.findPaginaSiguiente(cursor.getNombre(), cursor.getId(), limite),
+                    (cursor, limite) -> repository.findPaginaAnterior(cursor.getNombre(), cursor.getId(), limite));
+        } catch (IllegalArgumentException e) {
+            throw new ServiceException(ServiceExceptionMessages.invalid("cursor"));
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    @Lectura
+    public Pagina<Videojuego> getPage(FiltroVideojuego filtro, String despues, String antes, int tamanio)
+            throws ServiceException {
+        try {
+            return paginaFiltrada(filtro, despues, antes, tamanio);
+        } catch (IllegalArgumentException e) {
+            throw new ServiceException(ServiceExceptionMessages.invalid("cursor"));
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    @Lectura
+    public CatalogoFiltrado filter(FiltroVideojuego filtro, String despues, String antes, int tamanio)
+            throws ServiceException {
+        try {
+            var pagina = paginaFiltrada(filtro, despues, antes, tamanio);
+            return new CatalogoFiltrado(filtro, pagina, facetas(filtro));
+        } catch (IllegalArgumentException e) {
+            throw new ServiceException(ServiceExceptionMessages.invalid("cursor"));
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
+        }
+    }
+
+    /**
+     * Las facetas no dependen de la página: se guardan por filtro y versión de
+     * la tabla, así que al avanzar con el cursor no se vuelve a agrupar toda
+     * la tabla, y cualquier cambio confirmado las invalida. La versión se lee
+     * antes de consultar para no guardar datos viejos bajo una versión nueva.
+     */
+    private Facetas facetas(FiltroVideojuego filtro) {
+        var clave = List.of(filtro, versiones.etag(Videojuego.class));
+        return cacheManager.getCache(CACHE_FACETAS).get(clave, () -> repository.facetas(filtro));
+    }
+
+    private Pagina<Videojuego> paginaFiltrada(FiltroVideojuego filtro, String despues, String antes, int tamanio)
+            throws ServiceException {
+        if (filtro.getPrecioMin() != null && filtro.getPrecioMax() != null
+                && filtro.getPrecioMin() > filtro.getPrecioMax())
+            throw new ServiceException(ServiceExceptionMessages.invalid("precio"));
+        if (filtro.getLanzamientoDesde() != null && filtro.getLanzamientoHasta() != null
+                && filtro.getLanzamientoDesde().isAfter(filtro.getLanzamientoHasta()))
+            throw new ServiceException(ServiceExceptionMessages.invalid("lanzamiento"));
+        var spec = VideojuegoSpecifications.filtro(filtro);
+        return Paginador.keyset(despues, antes, Paginador.tamanio(tamanio), VideojuegoService::cursor,
+                limite -> find(spec, ORDEN, limite),
+                (cursor, limite) -> find(
+                        spec.and(VideojuegoSpecifications.despues(cursor.getNombre(), cursor.getId())),
+                        ORDEN, limite),
+                (cursor, limite) -> find(
+                        spec.and(VideojuegoSpecifications.antes(cursor.getNombre(), cursor.getId())),
+                        ORDEN_INVERSO, limite));
+    }
+
+    private List<Videojuego> find(Specification<Videojuego> spec, Sort orden, Limit limite) {
+        return repository.findBy(spec, query -> query.sortBy(orden).limit(limite.max())
+                .project("categoria", "estudio").all());
+    }
+
+    private static Cursor cursor(Videojuego videojuego) {
+        return new Cursor(videojuego.getNombre(), videojuego.getId());
+    }
+
+    @Lectura
     public Optional<Videojuego> get(UUID id) throws ServiceException {
         try {
             return repository.findByIdAndActivoTrue(id);
         } catch (Exception e) {
-            throw new ServiceException(ServiceExceptionMessages.ANY);
+            throw new ServiceException(ServiceExceptionMessages.ANY, e);
         }
 
     }
@@ -0,0 +1,162 @@
+package com.uncode.videojuegos.model.service.archivo;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.uncode.videojuegos.model.repository.CategoriaArchivoRepository;
+import com.uncode.videojuegos.model.repository.CategoriaRepository;
+import com.uncode.videojuegos.model.repository.EstudioArchivoRepository;
+import com.uncode.videojuegos.model.repository.EstudioRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoArchivoRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.exception.ConflictException;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Mueve a las tablas de archivo las filas dadas de baja hace más que la
+ * retención, para que las tablas vivas sólo crezcan con el catálogo activo.
+ * Trabaja por lotes de {@code lote} filas, cada uno en su propia transacción
+ * corta: copia, borra con la misma condición y, si las cuentas no coinciden
+ * porque algo se reactivó en medio, deshace el lote y deja esa tabla para la
+ * próxima pasada. Primero van los videojuegos, porque una categoría o un
+ * estudio sólo se archiva cuando ya no lo referencia ningún videojuego. Los
+ * videojuegos dados de baja en cascada se quedan mientras su categoría o su
+ * estudio de baja esté dentro de la retención, para que reactivarlo los
+ * recupere; pasada la retención se archivan junto con él.
+ */
+@Component
+public class Archivador {
+
+    private static final Logger log = LoggerFactory.getLogger(Archivador.class);
+
+    @Autowired
+    private VideojuegoRepository videojuegoRepository;
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+    @Autowired
+    private EstudioRepository estudioRepository;
+    @Autowired
+    private VideojuegoArchivoRepository videojuegoArchivoRepository;
+    @Autowired
+    private CategoriaArchivoRepository categoriaArchivoRepository;
+    @Autowired
+    private EstudioArchivoRepository estudioArchivoRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${videojuegos.archivo.retencion}")
+    private Duration retencion;
+    @Value("${videojuegos.archivo.lote}")
+    private int lote;
+
+    private final AtomicBoolean enCurso = new AtomicBoolean();
+
+    @Scheduled(cron = "${videojuegos.archivo.cron}")
+    public void programado() {
+        try {
+            var resultado = archivar();
+            log.info("Archivado: {} videojuegos, {} categorías, {} estudios dados de baja antes de {}",
+                    resultado.getVideojuegos(), resultado.getCategorias(), resultado.getEstudios(),
+                    resultado.getLimite());
+        } catch (ServiceException e) {
+            log.warn("Archivado programado omitido: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Cuenta lo que se archivaría ahora. Las categorías y los estudios que
+     * sólo quedan libres al archivar sus videojuegos no entran en la cuenta
+     * hasta la pasada siguiente.
+     */
+    public ResultadoArchivo simular() {
+        var limite = limite();
+        return ResultadoArchivo.builder()
+                .simulacro(true)
+                .limite(limite)
+                .videojuegos(videojuegoRepository.countArchivables(limite))
+                .categorias(categoriaRepository.countArchivables(limite))
+                .estudios(estudioRepository.countArchivables(limite))
+                .build();
+    }
+
+    public ResultadoArchivo archivar() throws ServiceException {
+        if (!enCurso.compareAndSet(false, true))
+            throw new ConflictException(ServiceExceptionMessages.ARCHIVE_RUNNING);
+        var muestra = Timer.start(meterRegistry);
+        try {
+            var limite = limite();
+            var archivado = LocalDateTime.now();
+            return ResultadoArchivo.builder()
+                    .simulacro(false)
+                    .limite(limite)
+                    .videojuegos(porLotes("videojuego",
+                            () -> videojuegoRepository.findArchivables(limite, Limit.of(lote)),
+                            ids -> mover(videojuegoArchivoRepository.archivar(ids, limite, archivado),
+                                    () -> videojuegoRepository.deleteArchivables(ids, limite))))
+                    .categorias(porLotes("categoria",
+                            () -> categoriaRepository.findArchivables(limite, Limit.of(lote)),
+                            ids -> mover(categoriaArchivoRepository.archivar(ids, limite, archivado),
+                                    () -> categoriaRepository.deleteArchivables(ids, limite))))
+                    .estudios(porLotes("estudio",
+                            () -> estudioRepository.findArchivables(limite, Limit.of(lote)),
+                            ids -> mover(estudioArchivoRepository.archivar(ids, limite, archivado),
+                                    () -> estudioRepository.deleteArchivables(ids, limite))))
+                    .build();
+        } finally {
+            muestra.stop(meterRegistry.timer("videojuegos.archivo"));
+            enCurso.set(false);
+        }
+    }
+
+    private LocalDateTime limite() {
+        return LocalDateTime.now().minus(retencion);
+    }
+
+    private long porLotes(String tabla, Supplier<List<UUID>> siguientes, ToIntFunction<List<UUID>> mover) {
+        var filas = meterRegistry.counter("videojuegos.archivo.filas", "tabla", tabla);
+        var total = 0L;
+        while (true) {
+            int movidas;
+            try {
+                movidas = transactionTemplate.execute(status -> {
+                    var ids = siguientes.get();
+                    return ids.isEmpty() ? 0 : mover.applyAsInt(ids);
+                });
+            } catch (IllegalStateException e) {
+                log.warn("Lote de {} deshecho: {}", tabla, e.getMessage());
+                return total;
+            }
+            if (movidas == 0)
+                return total;
+            filas.increment(movidas);
+            total += movidas;
+        }
+    }
+
+    private static int mover(int copiadas, Supplier<Integer> borrar) {
+        var borradas = borrar.get();
+        if (borradas != copiadas)
+            throw new IllegalStateException(copiadas + " filas copiadas y " + borradas + " borradas");
+        return borradas;
+    }
+}
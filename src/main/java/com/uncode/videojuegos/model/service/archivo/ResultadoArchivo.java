@@ -0,0 +1,22 @@
+package com.uncode.videojuegos.model.service.archivo;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Filas movidas a las tablas de archivo, o las que se moverían si es un
+ * simulacro; {@code limite} es la fecha de baja a partir de la cual se
+ * conservan.
+ */
+@Value
+@Builder
+public class ResultadoArchivo {
+
+    boolean simulacro;
+    LocalDateTime limite;
+    long videojuegos;
+    long categorias;
+    long estudios;
+}
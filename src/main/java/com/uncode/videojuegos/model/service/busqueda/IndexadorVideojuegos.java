@@ -0,0 +1,88 @@
+package com.uncode.videojuegos.model.service.busqueda;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.uncode.videojuegos.model.dto.VideojuegoIndexado;
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.entity.Estudio;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.evento.CascadaVideojuegos;
+import com.uncode.videojuegos.model.service.evento.VideojuegoModificado;
+
+/**
+ * Mantiene {@link IndiceVideojuegos} al día: lo construye al arrancar, antes
+ * de que el servidor web acepte peticiones, y aplica cada alta, modificación o
+ * baja una vez confirmada la transacción.
+ */
+@Component
+public class IndexadorVideojuegos implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexadorVideojuegos.class);
+
+    @Autowired
+    private IndiceVideojuegos indice;
+    @Autowired
+    private VideojuegoRepository repository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        var inicio = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (var videojuegos = repository.streamIndice()) {
+                indice.rebuild(videojuegos);
+            }
+        });
+        log.info("Índice de búsqueda construido con {} videojuegos en {} ms", indice.size(),
+                (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(VideojuegoModificado evento) {
+        if (evento.isActivo()) {
+            indice.put(new VideojuegoIndexado(evento.getId(), evento.getNombre(), evento.getDescripcion()));
+        } else {
+            indice.remove(evento.getId());
+        }
+    }
+
+    /**
+     * Las cascadas no cargan entidades ni publican un evento por videojuego:
+     * se recorren sus filas en una transacción nueva, porque la del evento ya
+     * se confirmó.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CascadaVideojuegos evento) {
+        var categoriaId = evento.getEntidad() == Categoria.class ? evento.getId() : null;
+        var estudioId = evento.getEntidad() == Estudio.class ? evento.getId() : null;
+        var nueva = new TransactionTemplate(transactionManager);
+        nueva.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        nueva.setReadOnly(true);
+        nueva.executeWithoutResult(status -> {
+            if (evento.isActivo()) {
+                try (var videojuegos = repository.streamIndice(categoriaId, estudioId)) {
+                    videojuegos.forEach(indice::put);
+                }
+            } else {
+                try (var ids = repository.streamDesactivadosEnCascada(categoriaId, estudioId)) {
+                    ids.forEach(indice::remove);
+                }
+            }
+        });
+    }
+}
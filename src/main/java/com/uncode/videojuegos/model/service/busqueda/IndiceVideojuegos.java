@@ -0,0 +1,234 @@
+package com.uncode.videojuegos.model.service.busqueda;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.uncode.videojuegos.model.dto.VideojuegoIndexado;
+
+/**
+ * Índice invertido en memoria sobre nombre y descripción de los videojuegos
+ * activos. Cada palabra de la consulta se busca como prefijo; un documento
+ * debe coincidir con todas y se ordena por la suma de pesos de sus mejores
+ * coincidencias (nombre antes que descripción, palabra exacta antes que
+ * prefijo).
+ */
+@Component
+public class IndiceVideojuegos {
+
+    static final int NOMBRE_EXACTO = 8;
+    static final int NOMBRE_PREFIJO = 4;
+    static final int DESCRIPCION_EXACTO = 2;
+    static final int DESCRIPCION_PREFIJO = 1;
+
+    private record Documento(String nombre, List<String> nombreTokens, List<String> descripcionTokens) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<UUID, Documento> documentos = new HashMap<>();
+    private NavigableMap<String, Set<UUID>> nombres = new TreeMap<>();
+    private NavigableMap<String, Set<UUID>> descripciones = new TreeMap<>();
+    /** Cambios recibidos durante una reconstrucción, por id; {@code null} es una baja. */
+    private Map<UUID, VideojuegoIndexado> pendientes;
+
+    public void put(VideojuegoIndexado videojuego) {
+        lock.writeLock().lock();
+        try {
+            aplicar(videojuego.getId(), videojuego);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            aplicar(id, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Arma el índice nuevo sin bloquear las búsquedas, que siguen usando el
+     * anterior. Las altas y bajas que llegan mientras tanto se aplican al
+     * anterior y se guardan para repetirlas sobre el nuevo después del cambio,
+     * porque la lectura pudo haber pasado antes que ellas.
+     */
+    public synchronized void rebuild(Stream<VideojuegoIndexado> videojuegos) {
+        lock.writeLock().lock();
+        try {
+            pendientes = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        var nuevosDocumentos = new HashMap<UUID, Documento>();
+        var nuevosNombres = new TreeMap<String, Set<UUID>>();
+        var nuevasDescripciones = new TreeMap<String, Set<UUID>>();
+        var completo = false;
+        try {
+            videojuegos.forEach(v -> agregar(v, nuevosDocumentos, nuevosNombres, nuevasDescripciones));
+            completo = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                var cambios = pendientes;
+                pendientes = null;
+                if (completo) {
+                    documentos = nuevosDocumentos;
+                    nombres = nuevosNombres;
+                    descripciones = nuevasDescripciones;
+                    cambios.forEach(this::aplicar);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void aplicar(UUID id, VideojuegoIndexado videojuego) {
+        quitar(id);
+        if (videojuego != null) {
+            agregar(videojuego, documentos, nombres, descripciones);
+        }
+        if (pendientes != null) {
+            pendientes.remove(id);
+            pendientes.put(id, videojuego);
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<UUID> search(String consulta, int limite) {
+        var terminos = Tokenizador.consulta(consulta);
+        if (terminos.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            // Los candidatos salen del término más selectivo; el resto se
+            // comprueba contra los tokens de cada candidato.
+            var selectivo = terminos.stream()
+                    .min(Comparator.comparingLong(termino -> frecuencia(termino)))
+                    .orElseThrow();
+            var candidatos = new HashSet<UUID>();
+            prefijos(nombres, selectivo).values().forEach(candidatos::addAll);
+            prefijos(descripciones, selectivo).values().forEach(candidatos::addAll);
+
+            Comparator<Resultado> orden = Comparator.comparingInt(Resultado::puntaje).reversed()
+                    .thenComparing(Resultado::nombre, Comparator.nullsLast(Comparator.naturalOrder()));
+            var mejores = new PriorityQueue<Resultado>(orden.reversed());
+            for (var id : candidatos) {
+                var puntaje = puntaje(documentos.get(id), terminos);
+                if (puntaje > 0) {
+                    mejores.add(new Resultado(id, documentos.get(id).nombre(), puntaje));
+                    if (mejores.size() > limite) {
+                        mejores.poll();
+                    }
+                }
+            }
+            var resultado = new ArrayList<>(mejores);
+            resultado.sort(orden);
+            return resultado.stream().map(Resultado::id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record Resultado(UUID id, String nombre, int puntaje) {
+    }
+
+    private long frecuencia(String termino) {
+        long total = 0;
+        for (var ids : prefijos(nombres, termino).values()) {
+            total += ids.size();
+        }
+        for (var ids : prefijos(descripciones, termino).values()) {
+            total += ids.size();
+        }
+        return total;
+    }
+
+    private static NavigableMap<String, Set<UUID>> prefijos(NavigableMap<String, Set<UUID>> postings,
+            String termino) {
+        return postings.subMap(termino, true, termino + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Suma, por cada término, el peso de su mejor coincidencia en el documento;
+     * 0 si algún término no coincide.
+     */
+    private static int puntaje(Documento documento, List<String> terminos) {
+        var total = 0;
+        for (var termino : terminos) {
+            var mejor = Math.max(peso(documento.nombreTokens(), termino, NOMBRE_EXACTO, NOMBRE_PREFIJO),
+                    peso(documento.descripcionTokens(), termino, DESCRIPCION_EXACTO, DESCRIPCION_PREFIJO));
+            if (mejor == 0) {
+                return 0;
+            }
+            total += mejor;
+        }
+        return total;
+    }
+
+    private static int peso(List<String> tokens, String termino, int exacto, int prefijo) {
+        var mejor = 0;
+        for (var token : tokens) {
+            if (token.equals(termino)) {
+                return exacto;
+            }
+            if (token.startsWith(termino)) {
+                mejor = prefijo;
+            }
+        }
+        return mejor;
+    }
+
+    private static void agregar(VideojuegoIndexado videojuego, Map<UUID, Documento> documentos,
+            NavigableMap<String, Set<UUID>> nombres, NavigableMap<String, Set<UUID>> descripciones) {
+        var documento = new Documento(videojuego.getNombre(), Tokenizador.tokens(videojuego.getNombre()),
+                Tokenizador.tokens(videojuego.getDescripcion()));
+        documentos.put(videojuego.getId(), documento);
+        documento.nombreTokens().forEach(t -> nombres.computeIfAbsent(t, k -> new HashSet<>())
+                .add(videojuego.getId()));
+        documento.descripcionTokens().forEach(t -> descripciones.computeIfAbsent(t, k -> new HashSet<>())
+                .add(videojuego.getId()));
+    }
+
+    private void quitar(UUID id) {
+        var documento = documentos.remove(id);
+        if (documento == null) {
+            return;
+        }
+        documento.nombreTokens().forEach(t -> desindexar(nombres, t, id));
+        documento.descripcionTokens().forEach(t -> desindexar(descripciones, t, id));
+    }
+
+    private static void desindexar(NavigableMap<String, Set<UUID>> postings, String token, UUID id) {
+        var ids = postings.get(token);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            postings.remove(token);
+        }
+    }
+}
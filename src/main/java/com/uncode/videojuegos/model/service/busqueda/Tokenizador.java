@@ -0,0 +1,51 @@
+package com.uncode.videojuegos.model.service.busqueda;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class Tokenizador {
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> VACIAS = Set.of("a", "al", "con", "de", "del", "e", "el", "en", "la", "las",
+            "lo", "los", "o", "para", "por", "se", "su", "sus", "u", "un", "una", "unos", "unas", "y");
+
+    public static String normalizar(String texto) {
+        var sinAcentos = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return sinAcentos.toLowerCase(Locale.ROOT);
+    }
+
+    public static List<String> tokens(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARADORES.split(normalizar(texto)))
+                .filter(token -> !token.isEmpty() && !VACIAS.contains(token))
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Como {@link #tokens(String)}, pero conserva la última palabra aunque sea
+     * vacía: mientras se escribe puede ser el prefijo de otra ("la" de "lara").
+     */
+    public static List<String> consulta(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return List.of();
+        }
+        var palabras = Arrays.stream(SEPARADORES.split(normalizar(texto))).filter(p -> !p.isEmpty()).toList();
+        var resultado = new ArrayList<String>();
+        for (int i = 0; i < palabras.size(); i++) {
+            var palabra = palabras.get(i);
+            if ((i == palabras.size() - 1 || !VACIAS.contains(palabra)) && !resultado.contains(palabra)) {
+                resultado.add(palabra);
+            }
+        }
+        return resultado;
+    }
+}
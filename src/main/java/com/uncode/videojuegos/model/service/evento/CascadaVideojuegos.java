@@ -0,0 +1,18 @@
+package com.uncode.videojuegos.model.service.evento;
+
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * Los videojuegos de una categoría o un estudio se dieron de baja o se
+ * reactivaron en bloque, sin pasar por las entidades; {@code entidad} es
+ * {@code Categoria} o {@code Estudio}.
+ */
+@Value(staticConstructor = "of")
+public class CascadaVideojuegos {
+
+    Class<?> entidad;
+    UUID id;
+    boolean activo;
+}
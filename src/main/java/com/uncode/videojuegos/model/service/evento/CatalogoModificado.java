@@ -0,0 +1,13 @@
+package com.uncode.videojuegos.model.service.evento;
+
+import lombok.Value;
+
+/**
+ * Alguna fila de la tabla de {@code entidad} cambió; lo publican las
+ * escrituras que no tienen un evento más específico.
+ */
+@Value(staticConstructor = "of")
+public class CatalogoModificado {
+
+    Class<?> entidad;
+}
@@ -0,0 +1,16 @@
+package com.uncode.videojuegos.model.service.evento;
+
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * Un videojuego se creó o cambió de {@code rutaimg} y hay que descargar la
+ * imagen y generar sus miniaturas.
+ */
+@Value(staticConstructor = "of")
+public class ImagenPendiente {
+
+    UUID id;
+    String rutaimg;
+}
@@ -0,0 +1,147 @@
+package com.uncode.videojuegos.model.service.evento;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.uncode.videojuegos.model.entity.Videojuego;
+
+/**
+ * Versión y fecha de última modificación de cada tabla del catálogo, para
+ * responder peticiones condicionales. Viven en la tabla
+ * {@code version_catalogo}, compartida por todas las instancias: un ETag
+ * emitido por una vale en las demás y ve sus escrituras. Se incrementan justo
+ * antes del commit, en la misma transacción que la escritura, así la versión
+ * nueva se confirma junto con los datos y sin pedir otra conexión al pool.
+ * <p>
+ * Cada instancia guarda las versiones leídas durante
+ * {@code videojuegos.catalogo.refresco} para no consultar la base en cada
+ * petición; sus propias escrituras se ven en cuanto confirman y las de otra
+ * instancia, a más tardar pasado ese tiempo.
+ */
+@Component
+public class VersionesCatalogo {
+
+    private static final Logger log = LoggerFactory.getLogger(VersionesCatalogo.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${videojuegos.catalogo.refresco}")
+    private Duration refresco;
+
+    private volatile Leidas leidas;
+
+    private record Marca(long version, long modificado) {
+    }
+
+    private record Leidas(Map<String, Marca> marcas, long leidas) {
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(CatalogoModificado evento) {
+        modificar(evento.getEntidad());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(VideojuegoModificado evento) {
+        modificar(Videojuego.class);
+    }
+
+    /**
+     * Se une a la transacción en curso, o abre una si no la hay. Lo leído se
+     * descarta recién después del commit: antes, otra petición vería la
+     * versión nueva con los datos viejos y un 304 posterior los conservaría.
+     */
+    public void modificar(Class<?> entidad) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> jdbcTemplate.update("""
+                update version_catalogo set version = version + 1, modificado = greatest(modificado, ?)
+                where tabla = ?""", System.currentTimeMillis(), tabla(entidad)));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    leidas = null;
+                }
+            });
+        } else {
+            leidas = null;
+        }
+    }
+
+    /**
+     * ETag débil que cambia cuando cambia cualquiera de las tablas indicadas.
+     */
+    public String etag(Class<?>... entidades) {
+        var marcas = marcas();
+        var etag = new StringBuilder("W/\"");
+        for (var i = 0; i < entidades.length; i++) {
+            if (i > 0)
+                etag.append('-');
+            etag.append(Long.toString(marca(marcas, entidades[i]).version(), 36));
+        }
+        return etag.append('"').toString();
+    }
+
+    public long lastModified(Class<?>... entidades) {
+        var marcas = marcas();
+        var modificado = 0L;
+        for (var entidad : entidades) {
+            modificado = Math.max(modificado, marca(marcas, entidad).modificado());
+        }
+        return modificado;
+    }
+
+    private Map<String, Marca> marcas() {
+        var actuales = leidas;
+        if (actuales != null && System.nanoTime() - actuales.leidas() < refresco.toNanos())
+            return actuales.marcas();
+        try {
+            actuales = leer();
+            leidas = actuales;
+        } catch (RuntimeException e) {
+            if (actuales == null)
+                throw e;
+            // Sin base se sigue con lo último leído: la página igual va a mostrar el error
+            log.warn("No se pudieron leer las versiones del catálogo: {}", e.toString());
+        }
+        return actuales.marcas();
+    }
+
+    private Leidas leer() {
+        var marcas = new HashMap<String, Marca>();
+        jdbcTemplate.query("select tabla, version, modificado from version_catalogo",
+                fila -> {
+                    marcas.put(fila.getString(1), new Marca(fila.getLong(2), fila.getLong(3)));
+                });
+        return new Leidas(Map.copyOf(marcas), System.nanoTime());
+    }
+
+    private static Marca marca(Map<String, Marca> marcas, Class<?> entidad) {
+        var marca = marcas.get(tabla(entidad));
+        if (marca == null)
+            throw new IllegalArgumentException("Tabla sin versión: " + entidad.getSimpleName());
+        return marca;
+    }
+
+    private static String tabla(Class<?> entidad) {
+        return entidad.getSimpleName().toLowerCase(Locale.ROOT);
+    }
+}
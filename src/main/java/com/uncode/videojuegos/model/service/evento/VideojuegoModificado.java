@@ -0,0 +1,21 @@
+package com.uncode.videojuegos.model.service.evento;
+
+import java.util.UUID;
+
+import com.uncode.videojuegos.model.entity.Videojuego;
+
+import lombok.Value;
+
+@Value
+public class VideojuegoModificado {
+
+    UUID id;
+    String nombre;
+    String descripcion;
+    boolean activo;
+
+    public static VideojuegoModificado of(Videojuego videojuego) {
+        return new VideojuegoModificado(videojuego.getId(), videojuego.getNombre(), videojuego.getDescripcion(),
+                videojuego.isActivo());
+    }
+}
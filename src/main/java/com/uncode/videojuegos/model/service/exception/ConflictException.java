@@ -0,0 +1,12 @@
+package com.uncode.videojuegos.model.service.exception;
+
+/**
+ * Otra operación modificó la entidad desde que se leyó; el llamador puede
+ * recargarla y reintentar o informar al usuario.
+ */
+public class ConflictException extends ServiceException {
+
+    public ConflictException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,23 @@
+package com.uncode.videojuegos.model.service.exception;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+public class ConstraintViolations {
+
+    public static boolean violates(DataIntegrityViolationException e, String constraint) {
+        var nombre = constraint.toLowerCase(Locale.ROOT);
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacion && violacion.getConstraintName() != null
+                    && violacion.getConstraintName().toLowerCase(Locale.ROOT).contains(nombre)) {
+                return true;
+            }
+            if (causa.getMessage() != null && causa.getMessage().toLowerCase(Locale.ROOT).contains(nombre)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,11 @@
+package com.uncode.videojuegos.model.service.exception;
+
+/**
+ * La entidad pedida no existe o está dada de baja.
+ */
+public class NotFoundException extends ServiceException {
+
+    public NotFoundException(String msg) {
+        super(msg);
+    }
+}
@@ -1,8 +1,18 @@
 package com.uncode.videojuegos.model.service.exception;
 
+/**
+ * Error esperado que se muestra al usuario (datos inválidos, no encontrado,
+ * conflicto). No guarda la traza: no se usa para diagnosticar y capturarla
+ * era lo más caro de rechazar un formulario inválido. Cuando envuelve un
+ * error inesperado, la causa conserva la traza original.
+ */
 public class ServiceException extends Exception {
 
     public ServiceException(String msg) {
-        super(msg);
+        super(msg, null, true, false);
+    }
+
+    public ServiceException(String msg, Throwable causa) {
+        super(msg, causa, true, false);
     }
 }
@@ -18,9 +18,36 @@ public class ServiceExceptionMessages {
         return "No se encontró " + entity.getSimpleName().toLowerCase();
     }
 
+    public static String conflict(Class<?> entity) {
+        return "Otra operación modificó " + entity.getSimpleName().toLowerCase() + ", vuelva a cargarlo";
+    }
+
     public static String nonNegative(String attribute) {
         return "Valor de " + attribute + " no puede ser negativo";
     }
 
+    public static String positive(String attribute) {
+        return "Valor de " + attribute + " debe ser mayor que cero";
+    }
+
+    public static String insufficient(String attribute, int available) {
+        return "No hay " + attribute + " suficiente, disponible: " + available;
+    }
+
+    public static String invalid(String attribute) {
+        return "Valor de " + attribute + " no es válido";
+    }
+
+    public static String tooMany(String attribute, int max) {
+        return "No se pueden solicitar más de " + max + " " + attribute;
+    }
+
+    public static String reactivationConflict(Class<?> entity) {
+        return "No se puede reactivar " + entity.getSimpleName().toLowerCase()
+                + ": ya hay otro activo con el mismo nombre";
+    }
+
+    public static final String ARCHIVE_RUNNING = "Ya hay un archivado en curso";
+
     public static final String ANY = "No se pudo realizar la operación";
 }
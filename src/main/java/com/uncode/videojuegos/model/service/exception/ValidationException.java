@@ -0,0 +1,23 @@
+package com.uncode.videojuegos.model.service.exception;
+
+import java.util.Map;
+
+import com.uncode.videojuegos.model.service.validacion.Validacion;
+
+/**
+ * Los datos no pasaron la validación; el mensaje es el primer error y
+ * {@link #getErrores()} los tiene todos por campo.
+ */
+public class ValidationException extends ServiceException {
+
+    private final transient Map<String, String> errores;
+
+    public ValidationException(Validacion validacion) {
+        super(validacion.getMensaje());
+        this.errores = validacion.getErrores();
+    }
+
+    public Map<String, String> getErrores() {
+        return errores;
+    }
+}
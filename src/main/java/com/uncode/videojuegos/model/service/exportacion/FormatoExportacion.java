@@ -0,0 +1,23 @@
+package com.uncode.videojuegos.model.service.exportacion;
+
+public enum FormatoExportacion {
+
+    CSV("text/csv", "csv"),
+    JSONL("application/x-ndjson", "jsonl");
+
+    private final String contentType;
+    private final String extension;
+
+    FormatoExportacion(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,75 @@
+package com.uncode.videojuegos.model.service.imagen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imágenes en disco, nombradas por el SHA-256 del original: {@code <hash>.<ext>}
+ * para el original y {@code <hash>-<ancho>.jpg} para cada miniatura, repartidas
+ * en subdirectorios por los dos primeros caracteres del hash. Un nombre nunca
+ * cambia de contenido, así que se pueden cachear sin fecha de expiración.
+ */
+@Component
+public class AlmacenImagenes {
+
+    public static final int[] ANCHOS = { 100, 200, 400 };
+
+    private static final Pattern NOMBRE = Pattern.compile("[0-9a-f]{64}(-[0-9]+)?\\.[a-z]{3,4}");
+
+    @Value("${videojuegos.imagenes.directorio}")
+    private Path directorio;
+
+    public static String miniatura(String hash, int ancho) {
+        return hash + "-" + ancho + ".jpg";
+    }
+
+    public static String original(String hash, String extension) {
+        return hash + "." + extension;
+    }
+
+    /**
+     * Archivo con ese nombre, si existe; los nombres que no tienen la forma de
+     * una imagen del almacén se rechazan sin tocar el disco.
+     */
+    public Optional<Path> get(String nombre) {
+        if (!NOMBRE.matcher(nombre).matches())
+            return Optional.empty();
+        var archivo = ruta(nombre);
+        return Files.isRegularFile(archivo) ? Optional.of(archivo) : Optional.empty();
+    }
+
+    /**
+     * Si ya se procesó ese contenido: la miniatura más grande es lo último que
+     * se escribe.
+     */
+    public boolean contains(String hash) {
+        return Files.isRegularFile(ruta(miniatura(hash, ANCHOS[ANCHOS.length - 1])));
+    }
+
+    /**
+     * Escribe en un temporal y lo mueve: quien lea el nombre nunca ve un
+     * archivo a medias.
+     */
+    public void put(String nombre, byte[] contenido) throws IOException {
+        var archivo = ruta(nombre);
+        Files.createDirectories(archivo.getParent());
+        var temporal = Files.createTempFile(archivo.getParent(), nombre, ".tmp");
+        try {
+            Files.write(temporal, contenido);
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    private Path ruta(String nombre) {
+        return directorio.resolve(nombre.substring(0, 2)).resolve(nombre);
+    }
+}
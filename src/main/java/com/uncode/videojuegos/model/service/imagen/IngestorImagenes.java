@@ -0,0 +1,263 @@
+package com.uncode.videojuegos.model.service.imagen;
+
+import java.awt.Color;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.imageio.ImageIO;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.evento.CatalogoModificado;
+import com.uncode.videojuegos.model.service.evento.ImagenPendiente;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Descarga la imagen de {@code rutaimg} una vez confirmada el alta o la
+ * modificación, la guarda en {@link AlmacenImagenes} con sus miniaturas y
+ * registra el hash en el videojuego. Corre en un pool propio y acotado para
+ * que una descarga lenta no retenga la petición ni la transacción; si falla,
+ * el videojuego sigue mostrando {@code rutaimg}.
+ * <p>
+ * {@code rutaimg} la escribe el usuario, así que antes de cada pedido, y de
+ * cada redirección, se resuelve el host y se rechaza si alguna dirección no
+ * es pública (loopback, red privada, enlace local, metadatos de la nube):
+ * si no, cualquiera podría hacer que el servidor pida URL internas. Las
+ * redirecciones se siguen a mano por eso. Los hosts de
+ * {@code videojuegos.imagenes.hosts-permitidos} no se verifican. Queda la
+ * ventana entre la verificación y la conexión, acotada por la caché de DNS de
+ * la JVM, que reutiliza la misma resolución.
+ */
+@Component
+public class IngestorImagenes {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestorImagenes.class);
+
+    private static final int COLA = 10_000;
+    private static final long PIXELES_MAXIMOS = 50_000_000L;
+    private static final Duration TIEMPO_MAXIMO = Duration.ofSeconds(20);
+    private static final int REDIRECCIONES_MAXIMAS = 5;
+
+    @Autowired
+    private AlmacenImagenes almacen;
+    @Autowired
+    private VideojuegoRepository repository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${videojuegos.imagenes.ingesta}")
+    private boolean ingesta;
+    @Value("${videojuegos.imagenes.tamanio-maximo}")
+    private DataSize tamanioMaximo;
+    @Value("${videojuegos.imagenes.hilos}")
+    private int hilos;
+    @Value("${videojuegos.imagenes.hosts-permitidos}")
+    private Set<String> hostsPermitidos;
+
+    private final HttpClient cliente = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    @PostConstruct
+    public void init() {
+        executor.setCorePoolSize(hilos);
+        executor.setMaxPoolSize(hilos);
+        executor.setQueueCapacity(COLA);
+        executor.setThreadNamePrefix("imagenes-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public static boolean admite(String rutaimg) {
+        return rutaimg.startsWith("http://") || rutaimg.startsWith("https://");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ImagenPendiente evento) {
+        if (!ingesta || !admite(evento.getRutaimg()))
+            return;
+        try {
+            executor.execute(() -> ingerir(evento.getId(), evento.getRutaimg()));
+        } catch (TaskRejectedException e) {
+            log.warn("Cola de imágenes llena, se descarta {} de {}", evento.getRutaimg(), evento.getId());
+        }
+    }
+
+    private void ingerir(UUID id, String rutaimg) {
+        try {
+            var hash = procesar(descargar(URI.create(rutaimg)));
+            transactionTemplate.executeWithoutResult(status -> {
+                if (repository.actualizarImagen(id, rutaimg, hash) > 0)
+                    eventPublisher.publishEvent(CatalogoModificado.of(Videojuego.class));
+            });
+        } catch (Exception e) {
+            log.warn("No se pudo procesar la imagen {} de {}: {}", rutaimg, id, e.toString());
+        }
+    }
+
+    private byte[] descargar(URI uri) throws IOException, InterruptedException {
+        var maximo = tamanioMaximo.toBytes();
+        var respuesta = pedir(uri);
+        try (var cuerpo = respuesta.body()) {
+            if (respuesta.statusCode() != 200)
+                throw new IOException("respuesta " + respuesta.statusCode());
+            if (respuesta.headers().firstValueAsLong("Content-Length").orElse(0) > maximo)
+                throw new IOException("supera " + tamanioMaximo);
+            var bytes = cuerpo.readNBytes((int) maximo + 1);
+            if (bytes.length > maximo)
+                throw new IOException("supera " + tamanioMaximo);
+            return bytes;
+        }
+    }
+
+    private HttpResponse<InputStream> pedir(URI uri) throws IOException, InterruptedException {
+        for (var saltos = 0; saltos <= REDIRECCIONES_MAXIMAS; saltos++) {
+            verificarDestino(uri);
+            var respuesta = cliente.send(HttpRequest.newBuilder(uri).timeout(TIEMPO_MAXIMO).GET().build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            var destino = switch (respuesta.statusCode()) {
+                case 301, 302, 303, 307, 308 -> respuesta.headers().firstValue("Location");
+                default -> Optional.<String>empty();
+            };
+            if (destino.isEmpty())
+                return respuesta;
+            respuesta.body().close();
+            uri = uri.resolve(destino.get());
+        }
+        throw new IOException("demasiadas redirecciones");
+    }
+
+    private void verificarDestino(URI uri) throws IOException {
+        var host = uri.getHost();
+        if (host == null || !admite(uri.toString()))
+            throw new IOException("URL no admitida " + uri);
+        if (hostsPermitidos.contains(host.toLowerCase(Locale.ROOT)))
+            return;
+        for (var direccion : InetAddress.getAllByName(host)) {
+            if (!publica(direccion))
+                throw new IOException("dirección no pública " + direccion.getHostAddress());
+        }
+    }
+
+    private static boolean publica(InetAddress direccion) {
+        if (direccion.isAnyLocalAddress() || direccion.isLoopbackAddress() || direccion.isLinkLocalAddress()
+                || direccion.isSiteLocalAddress() || direccion.isMulticastAddress())
+            return false;
+        var bytes = direccion.getAddress();
+        if (direccion instanceof Inet6Address)
+            // fc00::/7, direcciones locales únicas
+            return (bytes[0] & 0xfe) != 0xfc;
+        // 0.0.0.0/8 y 100.64.0.0/10, el espacio compartido de los proveedores
+        return bytes[0] != 0 && !(bytes[0] == 100 && (bytes[1] & 0xc0) == 64);
+    }
+
+    /**
+     * Valida que sea una imagen (y no una bomba de descompresión) antes de
+     * decodificarla, y escribe el original y las miniaturas. El mismo
+     * contenido se procesa una sola vez aunque lo usen varios videojuegos.
+     */
+    private String procesar(byte[] bytes) throws IOException {
+        var hash = sha256(bytes);
+        if (almacen.contains(hash))
+            return hash;
+        try (var entrada = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            var lectores = ImageIO.getImageReaders(entrada);
+            if (!lectores.hasNext())
+                throw new IOException("formato no soportado");
+            var lector = lectores.next();
+            try {
+                lector.setInput(entrada, true, true);
+                if ((long) lector.getWidth(0) * lector.getHeight(0) > PIXELES_MAXIMOS)
+                    throw new IOException("imagen demasiado grande");
+                var extension = lector.getFormatName().toLowerCase(Locale.ROOT).replace("jpeg", "jpg");
+                var imagen = lector.read(0);
+                almacen.put(AlmacenImagenes.original(hash, extension), bytes);
+                for (var ancho : AlmacenImagenes.ANCHOS) {
+                    almacen.put(AlmacenImagenes.miniatura(hash, ancho), jpeg(escalar(imagen, ancho)));
+                }
+            } finally {
+                lector.dispose();
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Reduce a la mitad mientras sobre el doble del ancho pedido y termina con
+     * un paso bicúbico: de un solo paso, las reducciones grandes pierden
+     * detalle. Nunca amplía.
+     */
+    private static BufferedImage escalar(BufferedImage imagen, int ancho) {
+        var actual = imagen;
+        var destino = Math.min(ancho, imagen.getWidth());
+        do {
+            var w = Math.max(destino, actual.getWidth() / 2);
+            var h = Math.max(1, Math.round((float) actual.getHeight() * w / actual.getWidth()));
+            var siguiente = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            var g = siguiente.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(actual, 0, 0, w, h, Color.WHITE, null);
+            } finally {
+                g.dispose();
+            }
+            actual = siguiente;
+        } while (actual.getWidth() > destino);
+        return actual;
+    }
+
+    private static byte[] jpeg(BufferedImage imagen) throws IOException {
+        var salida = new ByteArrayOutputStream();
+        ImageIO.write(imagen, "jpg", salida);
+        return salida.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.uncode.videojuegos.model.service.importacion;
+
+import lombok.Value;
+
+@Value
+public class ErrorImportacion {
+
+    int fila;
+    String mensaje;
+}
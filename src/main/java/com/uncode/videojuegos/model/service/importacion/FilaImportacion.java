@@ -0,0 +1,24 @@
+package com.uncode.videojuegos.model.service.importacion;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FilaImportacion {
+
+    private int fila;
+    private String nombre;
+    private String rutaimg;
+    private String precio;
+    private String cantidad;
+    private String descripcion;
+    private String oferta;
+    private String lanzamiento;
+    private String categoria;
+    private String estudio;
+}
@@ -0,0 +1,109 @@
+package com.uncode.videojuegos.model.service.importacion;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Lee un CSV con cabecera fila por fila. Los campos pueden ir entre comillas
+ * dobles, pero no pueden contener saltos de línea.
+ */
+public class LectorCsv implements Iterator<FilaImportacion> {
+
+    private final BufferedReader reader;
+    private final List<String> cabecera;
+    private int fila = 1;
+    private String siguiente;
+
+    public LectorCsv(InputStream in) throws IOException {
+        reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        var linea = reader.readLine();
+        if (linea == null) {
+            throw new IOException("CSV sin cabecera");
+        }
+        if (linea.startsWith("\uFEFF")) {
+            linea = linea.substring(1);
+        }
+        cabecera = campos(linea).stream().map(c -> c.trim().toLowerCase(Locale.ROOT)).toList();
+        avanzar();
+    }
+
+    private void avanzar() {
+        try {
+            do {
+                siguiente = reader.readLine();
+                fila++;
+            } while (siguiente != null && siguiente.isBlank());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return siguiente != null;
+    }
+
+    @Override
+    public FilaImportacion next() {
+        if (siguiente == null) {
+            throw new NoSuchElementException();
+        }
+        var valores = campos(siguiente);
+        var resultado = FilaImportacion.builder().fila(fila);
+        for (int i = 0; i < cabecera.size() && i < valores.size(); i++) {
+            var valor = valores.get(i);
+            switch (cabecera.get(i)) {
+                case "nombre" -> resultado.nombre(valor);
+                case "rutaimg" -> resultado.rutaimg(valor);
+                case "precio" -> resultado.precio(valor);
+                case "cantidad" -> resultado.cantidad(valor);
+                case "descripcion" -> resultado.descripcion(valor);
+                case "oferta" -> resultado.oferta(valor);
+                case "lanzamiento" -> resultado.lanzamiento(valor);
+                case "categoria" -> resultado.categoria(valor);
+                case "estudio" -> resultado.estudio(valor);
+                default -> {
+                }
+            }
+        }
+        avanzar();
+        return resultado.build();
+    }
+
+    static List<String> campos(String linea) {
+        var campos = new ArrayList<String>();
+        var campo = new StringBuilder();
+        var comillas = false;
+        for (int i = 0; i < linea.length(); i++) {
+            var c = linea.charAt(i);
+            if (comillas) {
+                if (c == '"' && i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else if (c == '"') {
+                    comillas = false;
+                } else {
+                    campo.append(c);
+                }
+            } else if (c == '"') {
+                comillas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
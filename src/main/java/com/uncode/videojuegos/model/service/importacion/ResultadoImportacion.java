@@ -0,0 +1,17 @@
+package com.uncode.videojuegos.model.service.importacion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class ResultadoImportacion {
+
+    private int importados;
+    private final List<ErrorImportacion> errores = new ArrayList<>();
+
+    public void error(int fila, String mensaje) {
+        errores.add(new ErrorImportacion(fila, mensaje));
+    }
+}
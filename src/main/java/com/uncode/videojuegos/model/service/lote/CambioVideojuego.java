@@ -0,0 +1,26 @@
+package com.uncode.videojuegos.model.service.lote;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cambio parcial de un videojuego dentro de un lote: solo se aplican los
+ * campos no nulos. Sin {@code version} el cambio se aplica sobre la versión
+ * vigente.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CambioVideojuego {
+
+    private UUID id;
+    private Long version;
+    private Float precio;
+    private Short cantidad;
+    private Boolean oferta;
+}
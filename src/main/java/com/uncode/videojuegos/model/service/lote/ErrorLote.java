@@ -0,0 +1,12 @@
+package com.uncode.videojuegos.model.service.lote;
+
+import java.util.UUID;
+
+import lombok.Value;
+
+@Value
+public class ErrorLote {
+
+    UUID id;
+    String mensaje;
+}
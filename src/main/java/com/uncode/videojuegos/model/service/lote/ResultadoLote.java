@@ -0,0 +1,20 @@
+package com.uncode.videojuegos.model.service.lote;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Data;
+
+@Data
+public class ResultadoLote {
+
+    private int actualizados;
+    private int reintentos;
+    private final List<UUID> conflictos = new ArrayList<>();
+    private final List<ErrorLote> errores = new ArrayList<>();
+
+    public void error(UUID id, String mensaje) {
+        errores.add(new ErrorLote(id, mensaje));
+    }
+}
@@ -0,0 +1,15 @@
+package com.uncode.videojuegos.model.service.pagina;
+
+import com.uncode.videojuegos.model.dto.Facetas;
+import com.uncode.videojuegos.model.dto.FiltroVideojuego;
+import com.uncode.videojuegos.model.entity.Videojuego;
+
+import lombok.Value;
+
+@Value
+public class CatalogoFiltrado {
+
+    FiltroVideojuego filtro;
+    Pagina<Videojuego> pagina;
+    Facetas facetas;
+}
@@ -0,0 +1,30 @@
+package com.uncode.videojuegos.model.service.pagina;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import lombok.Value;
+
+@Value
+public class Cursor {
+
+    private static final char SEPARADOR = ':';
+
+    String nombre;
+    UUID id;
+
+    public String encode() {
+        var valor = id.toString() + SEPARADOR + nombre;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) throws IllegalArgumentException {
+        var valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        var separador = valor.indexOf(SEPARADOR);
+        if (separador < 0) {
+            throw new IllegalArgumentException(cursor);
+        }
+        return new Cursor(valor.substring(separador + 1), UUID.fromString(valor.substring(0, separador)));
+    }
+}
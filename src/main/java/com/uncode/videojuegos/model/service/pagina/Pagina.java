@@ -0,0 +1,28 @@
+package com.uncode.videojuegos.model.service.pagina;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class Pagina<T> {
+
+    List<T> contenido;
+    String anterior;
+    String siguiente;
+
+    public boolean hasAnterior() {
+        return anterior != null;
+    }
+
+    public boolean hasSiguiente() {
+        return siguiente != null;
+    }
+
+    public <R> Pagina<R> map(Function<? super T, ? extends R> funcion) {
+        return new Pagina<>(contenido.stream().<R>map(funcion).toList(), anterior, siguiente);
+    }
+}
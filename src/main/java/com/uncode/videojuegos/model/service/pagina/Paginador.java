@@ -0,0 +1,83 @@
+package com.uncode.videojuegos.model.service.pagina;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Limit;
+
+/**
+ * Paginación por clave sobre el orden (nombre, id): cada consulta pide un
+ * elemento de más para saber si hay otra página, y la página anterior se lee
+ * en orden inverso y se da vuelta.
+ */
+public final class Paginador {
+
+    public static final int TAMANIO_MAXIMO = 100;
+    public static final int LOTE_RECORRIDO = 500;
+
+    private Paginador() {
+    }
+
+    public static int tamanio(int tamanio) {
+        return Math.max(1, Math.min(tamanio, TAMANIO_MAXIMO));
+    }
+
+    public static <T> Pagina<T> keyset(String despues, String antes, int tamanio, Function<T, Cursor> cursor,
+            Function<Limit, List<T>> primera,
+            BiFunction<Cursor, Limit, List<T>> siguiente,
+            BiFunction<Cursor, Limit, List<T>> anterior) throws IllegalArgumentException {
+        var limite = Limit.of(tamanio + 1);
+        if (antes != null) {
+            var elementos = new ArrayList<>(anterior.apply(Cursor.decode(antes), limite));
+            if (elementos.isEmpty()) {
+                return keyset(null, null, tamanio, cursor, primera, siguiente, anterior);
+            }
+            var hayAnterior = elementos.size() > tamanio;
+            if (hayAnterior) {
+                elementos.remove(tamanio);
+            }
+            Collections.reverse(elementos);
+            return pagina(elementos, cursor, hayAnterior, true);
+        }
+        if (despues != null) {
+            var elementos = new ArrayList<>(siguiente.apply(Cursor.decode(despues), limite));
+            var haySiguiente = elementos.size() > tamanio;
+            if (haySiguiente) {
+                elementos.remove(tamanio);
+            }
+            return pagina(elementos, cursor, !elementos.isEmpty(), haySiguiente);
+        }
+        var elementos = new ArrayList<>(primera.apply(limite));
+        var haySiguiente = elementos.size() > tamanio;
+        if (haySiguiente) {
+            elementos.remove(tamanio);
+        }
+        return pagina(elementos, cursor, false, haySiguiente);
+    }
+
+    /**
+     * Todo el orden, de a {@link #LOTE_RECORRIDO} elementos pedidos recién
+     * cuando se terminan los anteriores, pensado para que una vista lo
+     * recorra mientras escribe la respuesta. El primer lote se lee acá
+     * mismo: si la base falla al empezar, el error le llega al llamador
+     * cuando todavía puede mostrarlo. Un error en un lote posterior sale
+     * del recorrido con la respuesta ya empezada.
+     */
+    public static <T> Recorrido<T> recorrer(Function<T, Cursor> cursor, Function<Limit, List<T>> primera,
+            BiFunction<Cursor, Limit, List<T>> siguiente, Consumer<List<T>> liberar) {
+        return new Recorrido<>(LOTE_RECORRIDO, cursor, primera.apply(Limit.of(LOTE_RECORRIDO)), siguiente, liberar);
+    }
+
+    private static <T> Pagina<T> pagina(List<T> elementos, Function<T, Cursor> cursor, boolean hayAnterior,
+            boolean haySiguiente) {
+        return Pagina.<T>builder()
+                .contenido(elementos)
+                .anterior(hayAnterior ? cursor.apply(elementos.get(0)).encode() : null)
+                .siguiente(haySiguiente ? cursor.apply(elementos.get(elementos.size() - 1)).encode() : null)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.uncode.videojuegos.model.service.pagina;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Limit;
+
+/**
+ * Recorre todo el orden (nombre, id) pidiendo lotes por clave a medida que se
+ * consumen, sin abrir un cursor ni una transacción que dure lo que dure el
+ * recorrido. El primer lote ya viene leído (ver {@link Paginador#recorrer}).
+ * Sólo hay un lote en memoria a la vez: antes de pedir el siguiente se le
+ * entrega el anterior a {@code liberar}, para que no se acumule en el contexto
+ * de persistencia de la petición. No es una {@link java.util.Collection} a
+ * propósito, para que nadie le pida el tamaño.
+ */
+public class Recorrido<T> implements Iterable<T> {
+
+    private final int lote;
+    private final Function<T, Cursor> cursor;
+    private final List<T> primero;
+    private final BiFunction<Cursor, Limit, List<T>> siguiente;
+    private final Consumer<List<T>> liberar;
+
+    Recorrido(int lote, Function<T, Cursor> cursor, List<T> primero,
+            BiFunction<Cursor, Limit, List<T>> siguiente, Consumer<List<T>> liberar) {
+        this.lote = lote;
+        this.cursor = cursor;
+        this.primero = primero;
+        this.siguiente = siguiente;
+        this.liberar = liberar;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+
+            private List<T> actual = primero;
+            private int posicion;
+
+            @Override
+            public boolean hasNext() {
+                if (posicion == actual.size() && actual.size() == lote) {
+                    var ultimo = cursor.apply(actual.get(actual.size() - 1));
+                    liberar.accept(actual);
+                    actual = siguiente.apply(ultimo, Limit.of(lote));
+                    posicion = 0;
+                }
+                return posicion < actual.size();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return actual.get(posicion++);
+            }
+        };
+    }
+}
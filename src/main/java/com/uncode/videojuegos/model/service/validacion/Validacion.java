@@ -0,0 +1,68 @@
+package com.uncode.videojuegos.model.service.validacion;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+import com.uncode.videojuegos.model.service.exception.ValidationException;
+
+/**
+ * Resultado de validar una entrada: acumula el primer error de cada campo en
+ * lugar de lanzar una excepción, porque los datos inválidos de un formulario
+ * son un caso esperado. Los controladores lo consultan antes de llamar al
+ * servicio; el servicio vuelve a validar y lanza {@link ValidationException}
+ * solo si alguien se lo saltó.
+ */
+public class Validacion {
+
+    private final Map<String, String> errores = new LinkedHashMap<>(4);
+
+    public Validacion noVacio(Class<?> entidad, String campo, String valor) {
+        if (valor == null)
+            return error(campo, ServiceExceptionMessages.$null(entidad, campo));
+        if (valor.isBlank())
+            return error(campo, ServiceExceptionMessages.blank(entidad, campo));
+        return this;
+    }
+
+    public Validacion noNegativo(String campo, double valor) {
+        if (valor < 0)
+            return error(campo, ServiceExceptionMessages.nonNegative(campo));
+        return this;
+    }
+
+    public Validacion positivo(String campo, double valor) {
+        if (valor <= 0)
+            return error(campo, ServiceExceptionMessages.positive(campo));
+        return this;
+    }
+
+    public Validacion error(String campo, String mensaje) {
+        errores.putIfAbsent(campo, mensaje);
+        return this;
+    }
+
+    public boolean isValida() {
+        return errores.isEmpty();
+    }
+
+    /**
+     * Mensaje por campo, en el orden en que se validaron.
+     */
+    public Map<String, String> getErrores() {
+        return Collections.unmodifiableMap(errores);
+    }
+
+    /**
+     * El primer error, o {@code null} si es válida.
+     */
+    public String getMensaje() {
+        return errores.isEmpty() ? null : errores.values().iterator().next();
+    }
+
+    public void orThrow() throws ValidationException {
+        if (!errores.isEmpty())
+            throw new ValidationException(this);
+    }
+}
@@ -0,0 +1,30 @@
+create table categoria (
+    id uuid not null,
+    nombre varchar(255),
+    activo boolean not null,
+    primary key (id)
+);
+
+create table estudio (
+    id uuid not null,
+    nombre varchar(255),
+    activo boolean not null,
+    primary key (id)
+);
+
+create table videojuego (
+    id uuid not null,
+    nombre varchar(255),
+    rutaimg varchar(2048),
+    precio float(24) not null,
+    cantidad smallint not null,
+    descripcion varchar(255),
+    oferta boolean not null,
+    lanzamiento date,
+    activo boolean not null,
+    categoria_id uuid not null,
+    estudio_id uuid not null,
+    primary key (id),
+    constraint fk_videojuego_categoria foreign key (categoria_id) references categoria (id),
+    constraint fk_videojuego_estudio foreign key (estudio_id) references estudio (id)
+);
@@ -0,0 +1,16 @@
+alter table categoria
+    add column nombre_activo varchar(255) generated always as (case when activo then nombre end);
+alter table categoria add constraint uk_categoria_nombre_activo unique (nombre_activo);
+create index idx_categoria_activo_nombre on categoria (activo, nombre);
+
+alter table estudio
+    add column nombre_activo varchar(255) generated always as (case when activo then nombre end);
+alter table estudio add constraint uk_estudio_nombre_activo unique (nombre_activo);
+create index idx_estudio_activo_nombre on estudio (activo, nombre);
+
+alter table videojuego
+    add column nombre_activo varchar(255) generated always as (case when activo then nombre end);
+alter table videojuego add constraint uk_videojuego_nombre_activo unique (nombre_activo);
+create index idx_videojuego_activo_nombre on videojuego (activo, nombre);
+create index idx_videojuego_categoria_activo on videojuego (categoria_id, activo);
+create index idx_videojuego_estudio_activo on videojuego (estudio_id, activo);
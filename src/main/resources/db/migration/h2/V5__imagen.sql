@@ -0,0 +1 @@
+alter table videojuego add column imagen varchar(64);
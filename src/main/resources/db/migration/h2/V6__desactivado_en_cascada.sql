@@ -0,0 +1 @@
+alter table videojuego add column desactivado_en_cascada boolean not null default false;
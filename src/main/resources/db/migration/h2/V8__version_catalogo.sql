@@ -0,0 +1,12 @@
+create table version_catalogo (
+    tabla varchar(50) not null,
+    version bigint not null,
+    modificado bigint not null,
+    primary key (tabla)
+);
+
+-- Arranca en la hora de la migración: una base nueva no repite los ETag de otra
+insert into version_catalogo (tabla, version, modificado)
+select t.tabla, m.ahora, m.ahora
+from (values ('categoria'), ('estudio'), ('videojuego')) t(tabla)
+cross join (select datediff('MILLISECOND', timestamp '1970-01-01 00:00:00', current_timestamp) ahora) m;
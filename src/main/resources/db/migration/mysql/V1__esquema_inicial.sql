@@ -0,0 +1,30 @@
+create table categoria (
+    id binary(16) not null,
+    nombre varchar(255),
+    activo bit not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table estudio (
+    id binary(16) not null,
+    nombre varchar(255),
+    activo bit not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table videojuego (
+    id binary(16) not null,
+    nombre varchar(255),
+    rutaimg varchar(2048),
+    precio float(23) not null,
+    cantidad smallint not null,
+    descripcion varchar(255),
+    oferta bit not null,
+    lanzamiento date,
+    activo bit not null,
+    categoria_id binary(16) not null,
+    estudio_id binary(16) not null,
+    primary key (id),
+    constraint fk_videojuego_categoria foreign key (categoria_id) references categoria (id),
+    constraint fk_videojuego_estudio foreign key (estudio_id) references estudio (id)
+) engine=InnoDB;
@@ -0,0 +1,3 @@
+create index idx_videojuego_activo_precio on videojuego (activo, precio);
+create index idx_videojuego_activo_lanzamiento on videojuego (activo, lanzamiento);
+create index idx_videojuego_activo_oferta on videojuego (activo, oferta, categoria_id, estudio_id);
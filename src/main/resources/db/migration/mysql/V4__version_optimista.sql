@@ -0,0 +1,3 @@
+alter table categoria add column version bigint not null default 0;
+alter table estudio add column version bigint not null default 0;
+alter table videojuego add column version bigint not null default 0;
@@ -0,0 +1 @@
+alter table videojuego add column desactivado_en_cascada bit not null default b'0';
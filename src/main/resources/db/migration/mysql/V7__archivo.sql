@@ -0,0 +1,47 @@
+alter table categoria add column fecha_baja datetime(6);
+alter table estudio add column fecha_baja datetime(6);
+alter table videojuego add column fecha_baja datetime(6);
+
+update categoria set fecha_baja = current_timestamp where activo = false;
+update estudio set fecha_baja = current_timestamp where activo = false;
+update videojuego set fecha_baja = current_timestamp where activo = false;
+
+create index idx_categoria_activo_fecha_baja on categoria (activo, fecha_baja);
+create index idx_estudio_activo_fecha_baja on estudio (activo, fecha_baja);
+create index idx_videojuego_activo_fecha_baja on videojuego (activo, fecha_baja);
+
+create table categoria_archivo (
+    id binary(16) not null,
+    nombre varchar(255),
+    version bigint not null,
+    fecha_baja datetime(6) not null,
+    archivado datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table estudio_archivo (
+    id binary(16) not null,
+    nombre varchar(255),
+    version bigint not null,
+    fecha_baja datetime(6) not null,
+    archivado datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table videojuego_archivo (
+    id binary(16) not null,
+    nombre varchar(255),
+    rutaimg varchar(2048),
+    imagen varchar(64),
+    precio float(23) not null,
+    cantidad smallint not null,
+    descripcion varchar(255),
+    oferta bit not null,
+    lanzamiento date,
+    categoria_id binary(16) not null,
+    estudio_id binary(16) not null,
+    version bigint not null,
+    fecha_baja datetime(6) not null,
+    archivado datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
@@ -0,0 +1,13 @@
+create table version_catalogo (
+    tabla varchar(50) not null,
+    version bigint not null,
+    modificado bigint not null,
+    primary key (tabla)
+) engine=InnoDB;
+
+-- Arranca en la hora de la migración: una base nueva no repite los ETag de otra
+set @ahora = cast(unix_timestamp(now(3)) * 1000 as signed);
+insert into version_catalogo (tabla, version, modificado) values
+    ('categoria', @ahora, @ahora),
+    ('estudio', @ahora, @ahora),
+    ('videojuego', @ahora, @ahora);
@@ -0,0 +1,104 @@
+package com.uncode.videojuegos.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.uncode.videojuegos.model.repository.CategoriaRepository;
+import com.uncode.videojuegos.model.service.pagina.Paginador;
+
+/**
+ * Los tiempos del listado se miden con JMH; acá se verifica la forma de la
+ * respuesta: sale por partes y la tabla se lee de a lotes.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+public class ListadoPorPartesTest {
+
+    private static final int FILAS = 1_200;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private CategoriaRepository repository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    public void setUp() {
+        var filas = new ArrayList<Object[]>(FILAS);
+        for (var i = 0; i < FILAS; i++) {
+            filas.add(new Object[] { UUID.randomUUID(), "listado " + UUID.randomUUID() });
+        }
+        jdbcTemplate.batchUpdate("insert into categoria (id, nombre, activo) values (?, ?, true)", filas);
+        clearInvocations(repository);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("delete from categoria where nombre like 'listado %'");
+    }
+
+    @Test
+    public void testIndex_StreamsRowsInBatches() throws Exception {
+        var activas = jdbcTemplate.queryForObject("select count(*) from categoria where activo", Integer.class);
+
+        var response = client.send(pedir(), HttpResponse.BodyHandlers.ofInputStream());
+        long bytes;
+        try (var cuerpo = response.body()) {
+            bytes = cuerpo.transferTo(OutputStream.nullOutputStream());
+        }
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue(HttpHeaders.CONTENT_LENGTH).isEmpty());
+        assertEquals("chunked", response.headers().firstValue(HttpHeaders.TRANSFER_ENCODING).orElse(null));
+        assertTrue(bytes > FILAS * 100L);
+        verify(repository).findByActivoTrueOrderByNombreAscIdAsc(Limit.of(Paginador.LOTE_RECORRIDO));
+        verify(repository, times(activas / Paginador.LOTE_RECORRIDO))
+                .findPaginaSiguiente(any(), any(), eq(Limit.of(Paginador.LOTE_RECORRIDO)));
+    }
+
+    @Test
+    public void testIndex_FailureAfterFirstChunkAbortsResponse() throws Exception {
+        doThrow(new DataAccessResourceFailureException("caída")).when(repository)
+                .findPaginaSiguiente(any(), any(), any());
+
+        var response = client.send(pedir(), HttpResponse.BodyHandlers.ofInputStream());
+
+        assertEquals(200, response.statusCode());
+        // Sin el último chunk el cliente no toma la respuesta cortada como completa
+        try (var cuerpo = response.body()) {
+            assertThrows(IOException.class, () -> cuerpo.transferTo(OutputStream.nullOutputStream()));
+        }
+    }
+
+    private HttpRequest pedir() {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/categorias")).build();
+    }
+}
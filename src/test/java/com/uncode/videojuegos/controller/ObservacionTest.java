@@ -0,0 +1,100 @@
+package com.uncode.videojuegos.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.uncode.videojuegos.config.ObservacionCapas;
+import com.uncode.videojuegos.config.SentenciasPorPeticion;
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.EstudioService;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@AutoConfigureObservability
+public class ObservacionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private VideojuegoService service;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private EstudioService estudioService;
+
+    private UUID id;
+
+    @BeforeEach
+    public void setUp() throws ServiceException {
+        var sufijo = UUID.randomUUID().toString();
+        id = service.create("observado " + sufijo, "img.jpg", 10f, (short) 1, "descripcion", false,
+                LocalDate.now(), categoriaService.create("observado " + sufijo),
+                estudioService.create("observado " + sufijo));
+    }
+
+    @Test
+    public void testGetVideojuego_TimesServiceAndRepositoryByOutcome() throws Exception {
+        mockMvc.perform(get("/videojuegos/{id}", id)).andExpect(status().isOk());
+        mockMvc.perform(get("/videojuegos/{id}", UUID.randomUUID()));
+
+        assertTrue(cuenta(ObservacionCapas.SERVICIO, "VideojuegoService", "get", "exito") >= 1);
+        assertTrue(cuenta(ObservacionCapas.SERVICIO, "VideojuegoService", "get", "no_encontrado") >= 1);
+        assertTrue(cuenta(ObservacionCapas.REPOSITORIO, "VideojuegoRepository", "findByIdAndActivoTrue",
+                "exito") >= 1);
+    }
+
+    @Test
+    public void testCreate_InvalidAndMissingAreTaggedApart() {
+        assertThrows(ServiceException.class, () -> service.create(" ", "img.jpg", 10f, (short) 1, "descripcion",
+                false, LocalDate.now(), UUID.randomUUID(), UUID.randomUUID()));
+        assertThrows(ServiceException.class, () -> service.create("otro " + UUID.randomUUID(), "img.jpg", 10f,
+                (short) 1, "descripcion", false, LocalDate.now(), UUID.randomUUID(), UUID.randomUUID()));
+
+        assertTrue(cuenta(ObservacionCapas.SERVICIO, "VideojuegoService", "create", "validacion") >= 1);
+        assertTrue(cuenta(ObservacionCapas.SERVICIO, "VideojuegoService", "create", "no_encontrado") >= 1);
+    }
+
+    @Test
+    public void testRequest_RecordsStatementCountAndHistograms() throws Exception {
+        mockMvc.perform(get("/videojuegos/{id}", id)).andExpect(status().isOk());
+
+        var sentencias = registry.find(SentenciasPorPeticion.METRICA).tags("uri", "/videojuegos/{id}").summary();
+        assertNotNull(sentencias);
+        assertTrue(sentencias.totalAmount() > 0);
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("videojuegos_servicio_seconds_bucket")))
+                .andExpect(content().string(containsString("videojuegos_peticion_sentencias_bucket")));
+    }
+
+    private long cuenta(String nombre, String clase, String metodo, String resultado) {
+        var timer = registry.find(nombre).tags("clase", clase, "metodo", metodo, "resultado", resultado).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,82 @@
+package com.uncode.videojuegos.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+public class RecursosVersionadosTest {
+
+    private static final Pattern CSS = Pattern.compile("/css/app-[0-9a-f]{32}\\.css");
+    private static final Pattern FUENTE = Pattern.compile("/fuentes/[0-9a-f]{32}/fa-solid-900\\.woff2");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void testPages_LinkHashedBundles() throws Exception {
+        mockMvc.perform(get("/videojuegos"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(matchesPattern("(?s).*/css/app-[0-9a-f]{32}\\.css.*")))
+                .andExpect(content().string(matchesPattern("(?s).*/js/app-[0-9a-f]{32}\\.js.*")))
+                .andExpect(content().string(matchesPattern("(?s).*/img/undraw_profile-[0-9a-f]{32}\\.svg.*")))
+                .andExpect(content().string(not(containsString("cdn.jsdelivr.net"))));
+    }
+
+    @Test
+    public void testHashedBundle_ImmutableWithPrecompressedVariant() throws Exception {
+        var css = cssUrl();
+
+        var plano = mockMvc.perform(get(css))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andReturn().getResponse().getContentAsString();
+        var gzip = mockMvc.perform(get(css).header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andReturn().getResponse().getContentAsByteArray();
+        String descomprimido;
+        try (var entrada = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            descomprimido = new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        var fuente = FUENTE.matcher(plano);
+        assertTrue(fuente.find());
+        assertTrue(descomprimido.contains(fuente.group()));
+        mockMvc.perform(get(fuente.group()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+    }
+
+    @Test
+    public void testUnhashedUrl_Revalidates() throws Exception {
+        mockMvc.perform(get("/css/app.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    private String cssUrl() throws Exception {
+        var html = mockMvc.perform(get("/categorias")).andReturn().getResponse().getContentAsString();
+        var matcher = CSS.matcher(html);
+        matcher.find();
+        return matcher.group();
+    }
+}
@@ -0,0 +1,98 @@
+package com.uncode.videojuegos.controller;
+
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.entity.Estudio;
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.evento.VersionesCatalogo;
+
+@SpringBootTest(properties = "videojuegos.catalogo.refresco=0s")
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+public class RespuestaCondicionalTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private VersionesCatalogo versiones;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testGetCategorias_NotModifiedUntilTableChanges() throws Exception {
+        var etag = mockMvc.perform(get("/categorias"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/categorias").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        categoriaService.create("etag " + UUID.randomUUID());
+
+        mockMvc.perform(get("/categorias").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    public void testGetVideojuegos_EtagDependsOnRelatedTables() throws Exception {
+        var etag = mockMvc.perform(get("/videojuegos"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        versiones.modificar(Estudio.class);
+
+        mockMvc.perform(get("/videojuegos").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testGetCategorias_SeesChangesFromAnotherInstance() throws Exception {
+        var etag = mockMvc.perform(get("/categorias"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Otra instancia escribió en la misma base
+        jdbcTemplate.update("update version_catalogo set version = version + 1 where tabla = 'categoria'");
+
+        mockMvc.perform(get("/categorias").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    public void testEtag_OnlyChangesForModifiedTable() {
+        var categorias = versiones.etag(Categoria.class);
+        var estudios = versiones.etag(Estudio.class);
+
+        versiones.modificar(Categoria.class);
+
+        assertNotEquals(categorias, versiones.etag(Categoria.class));
+        assertEquals(estudios, versiones.etag(Estudio.class));
+        assertTrue(versiones.etag(Categoria.class).startsWith("W/\""));
+    }
+}
@@ -0,0 +1,151 @@
+package com.uncode.videojuegos.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jayway.jsonpath.JsonPath;
+import com.uncode.videojuegos.controller.api.ApiExceptionHandler;
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.EstudioService;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+public class VideojuegoApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VideojuegoService service;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private EstudioService estudioService;
+
+    private UUID categoriaId;
+    private UUID primero;
+    private UUID segundo;
+
+    @BeforeEach
+    public void setUp() throws ServiceException {
+        var sufijo = UUID.randomUUID().toString();
+        categoriaId = categoriaService.create("api " + sufijo);
+        var estudioId = estudioService.create("api " + sufijo);
+        primero = service.create("api a " + sufijo, "img.jpg", 10f, (short) 1, "descripcion", true,
+                LocalDate.of(2020, 1, 1), categoriaId, estudioId);
+        segundo = service.create("api b " + sufijo, "img.jpg", 20f, (short) 2, "descripcion", false,
+                LocalDate.of(2021, 1, 1), categoriaId, estudioId);
+    }
+
+    @Test
+    public void testGetVideojuegos_PagesWithCursor() throws Exception {
+        var json = mockMvc.perform(get("/api/v1/videojuegos")
+                .param("categoriaId", categoriaId.toString())
+                .param("tamanio", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contenido[0].id").value(primero.toString()))
+                .andExpect(jsonPath("$.contenido[0].categoria.id").value(categoriaId.toString()))
+                .andExpect(jsonPath("$.siguiente").isString())
+                .andReturn().getResponse().getContentAsString();
+        String siguiente = JsonPath.read(json, "$.siguiente");
+
+        mockMvc.perform(get("/api/v1/videojuegos")
+                .param("categoriaId", categoriaId.toString())
+                .param("tamanio", "1")
+                .param("despues", siguiente))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contenido[0].id").value(segundo.toString()))
+                .andExpect(jsonPath("$.siguiente").doesNotExist());
+    }
+
+    @Test
+    public void testGetVideojuego_SparseFieldset() throws Exception {
+        mockMvc.perform(get("/api/v1/videojuegos/{id}", primero).param("campos", "nombre,precio"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(primero.toString()))
+                .andExpect(jsonPath("$.nombre").exists())
+                .andExpect(jsonPath("$.precio").value(10.0))
+                .andExpect(jsonPath("$.descripcion").doesNotExist())
+                .andExpect(jsonPath("$.categoria").doesNotExist());
+    }
+
+    @Test
+    public void testGetVideojuegos_BatchKeepsOrder() throws Exception {
+        mockMvc.perform(get("/api/v1/videojuegos/lote")
+                .param("ids", segundo + "," + UUID.randomUUID() + "," + primero)
+                .param("campos", "precio"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(segundo.toString()))
+                .andExpect(jsonPath("$[1].id").value(primero.toString()))
+                .andExpect(jsonPath("$[0].nombre").doesNotExist());
+    }
+
+    @Test
+    public void testGetVideojuego_NotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/videojuegos/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").isString());
+    }
+
+    @Test
+    public void testGetVideojuegos_InvalidFieldAndCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/videojuegos").param("campos", "secreto"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").isString());
+        mockMvc.perform(get("/api/v1/videojuegos").param("despues", "no-es-un-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/videojuegos/{id}", "no-es-un-uuid"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @ExtendWith(OutputCaptureExtension.class)
+    public void testServiceException_UnexpectedIsServerErrorAndLogsCause(CapturedOutput salida) {
+        var handler = new ApiExceptionHandler();
+        var causa = new IllegalStateException("conexion cerrada " + UUID.randomUUID());
+
+        assertEquals(500, handler.service(new ServiceException(ServiceExceptionMessages.ANY, causa))
+                .getStatusCode().value());
+        assertThat(salida.getOut(), containsString("Caused by: " + causa));
+        assertEquals(400, handler.service(new ServiceException(ServiceExceptionMessages.invalid("precio")))
+                .getStatusCode().value());
+    }
+
+    @Test
+    public void testGetCategorias_PageAndBatch() throws Exception {
+        mockMvc.perform(get("/api/v1/categorias").param("tamanio", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contenido", hasSize(1)))
+                .andExpect(jsonPath("$.contenido[0].version").isNumber());
+        mockMvc.perform(get("/api/v1/categorias/lote").param("ids", categoriaId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].nombre", startsWith("api ")));
+        mockMvc.perform(get("/api/v1/estudios").param("tamanio", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contenido", hasSize(1)));
+    }
+}
@@ -0,0 +1,90 @@
+package com.uncode.videojuegos.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.EstudioService;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+public class VideojuegoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VideojuegoService service;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private EstudioService estudioService;
+
+    private UUID videojuegoId;
+    private String nombre;
+
+    @BeforeEach
+    public void setUp() throws ServiceException {
+        var sufijo = UUID.randomUUID().toString();
+        var categoriaId = categoriaService.create("controller " + sufijo);
+        var estudioId = estudioService.create("controller " + sufijo);
+        nombre = "controller " + sufijo;
+        videojuegoId = service.create(nombre, "img.jpg", 10f, (short) 3, "descripcion", false,
+                LocalDate.of(2020, 1, 1), categoriaId, estudioId);
+    }
+
+    @Test
+    public void testGetTodosVideojuegos_RendersIndexWithoutFilter() throws Exception {
+        mockMvc.perform(get("/videojuegos/todos"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("videojuego/index"))
+                .andExpect(model().attributeDoesNotExist("filtro", "pagina", "facetas", "error"))
+                .andExpect(content().string(containsString(nombre)))
+                .andExpect(content().string(containsString("/videojuegos/" + videojuegoId)));
+    }
+
+    @Test
+    public void testReserveVideojuego_StatusByError() throws Exception {
+        mockMvc.perform(post("/videojuegos/{id}/reservar", videojuegoId).param("cantidad", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reservado").value(2));
+        mockMvc.perform(post("/videojuegos/{id}/reservar", videojuegoId).param("cantidad", "2"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").isString());
+        mockMvc.perform(post("/videojuegos/{id}/reservar", videojuegoId).param("cantidad", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/videojuegos/{id}/reservar", UUID.randomUUID()).param("cantidad", "1"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testReleaseVideojuego_StatusByError() throws Exception {
+        mockMvc.perform(post("/videojuegos/{id}/reponer", videojuegoId).param("cantidad", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.repuesto").value(2));
+        mockMvc.perform(post("/videojuegos/{id}/reponer", videojuegoId).param("cantidad", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/videojuegos/{id}/reponer", videojuegoId).param("cantidad", String.valueOf(Short.MAX_VALUE)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/videojuegos/{id}/reponer", UUID.randomUUID()).param("cantidad", "1"))
+                .andExpect(status().isNotFound());
+    }
+}
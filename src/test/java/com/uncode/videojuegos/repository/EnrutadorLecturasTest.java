@@ -0,0 +1,115 @@
+package com.uncode.videojuegos.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+
+/**
+ * Dos bases H2 en memoria hacen de primaria y réplica; la réplica no recibe
+ * nada solo, así que funciona como una réplica infinitamente atrasada hasta
+ * que el test copia la fila a mano.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + EnrutadorLecturasTest.PRIMARIA,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "videojuegos.replica.jdbc-url=" + EnrutadorLecturasTest.REPLICA,
+        "videojuegos.replica.username=sa",
+        "videojuegos.replica.password=" })
+@ActiveProfiles("replica")
+public class EnrutadorLecturasTest {
+
+    static final String PRIMARIA = "jdbc:h2:mem:enrutador-primaria;DB_CLOSE_DELAY=-1";
+    static final String REPLICA = "jdbc:h2:mem:enrutador-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private CategoriaService service;
+
+    @Autowired
+    @Qualifier("replica")
+    private DataSource replica;
+
+    @BeforeAll
+    public static void migrarReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA, "sa", "")
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void testRead_GoesToReplica() throws ServiceException {
+        var nombre = "enrutador " + UUID.randomUUID();
+        var id = service.create(nombre);
+
+        peticion();
+        assertEquals(List.of(), service.getAll(List.of(id)));
+        assertTrue(service.get(nombre).isEmpty());
+        assertEquals(0, new JdbcTemplate(replica).queryForObject(
+                "select count(*) from categoria where id = ?", Integer.class, id));
+
+        replicar(id, nombre);
+
+        // Fuera de una petición, como el archivado programado
+        RequestContextHolder.resetRequestAttributes();
+        assertEquals(nombre, service.getAll(List.of(id)).get(0).getNombre());
+    }
+
+    @Test
+    public void testReadAfterWriteInSameRequest_GoesToPrimary() throws ServiceException {
+        var nombre = "enrutador " + UUID.randomUUID();
+        peticion();
+        var id = service.create(nombre);
+
+        assertEquals(nombre, service.getAll(List.of(id)).get(0).getNombre());
+        assertTrue(service.get(nombre).isPresent());
+
+        peticion();
+        assertEquals(List.of(), service.getAll(List.of(id)));
+    }
+
+    @Test
+    public void testReadOnlyRequest_StaysOnReplica() throws ServiceException {
+        var nombre = "enrutador " + UUID.randomUUID();
+        var id = UUID.randomUUID();
+        replicar(id, nombre);
+
+        peticion();
+        assertEquals(1, service.getAll(List.of(id)).size());
+        var pagina = service.getPage(null, null, 100);
+        assertTrue(pagina.getContenido().stream().anyMatch(categoria -> categoria.getId().equals(id)));
+    }
+
+    private static void peticion() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private void replicar(UUID id, String nombre) {
+        new JdbcTemplate(replica).update("insert into categoria (id, nombre, activo) values (?, ?, true)", id, nombre);
+    }
+}
@@ -0,0 +1,69 @@
+package com.uncode.videojuegos.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.entity.id.UuidV7Generator;
+import com.uncode.videojuegos.model.repository.CategoriaRepository;
+
+@DataJpaTest
+public class UuidV7Test {
+
+    @Autowired
+    private CategoriaRepository repository;
+
+    private static String bytes(UUID uuid) {
+        return "%016x%016x".formatted(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    @Test
+    public void testNext_IsVersion7AndCarriesTimestamp() {
+        var antes = System.currentTimeMillis();
+        var uuid = UuidV7Generator.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(uuid.getMostSignificantBits() >>> 16 >= antes);
+        assertTrue(uuid.getMostSignificantBits() >>> 16 <= System.currentTimeMillis());
+    }
+
+    @Test
+    public void testNext_IsStrictlyIncreasingAcrossThreads() {
+        var generados = new ConcurrentLinkedQueue<UUID>();
+        IntStream.range(0, 8).parallel()
+                .forEach(h -> IntStream.range(0, 50_000).forEach(i -> generados.add(UuidV7Generator.next())));
+
+        // El orden de bytes (el de binary(16) en MySQL) debe coincidir con el de generación en cada hilo
+        // y no repetirse entre hilos.
+        var ordenados = new ArrayList<>(generados.stream().map(UuidV7Test::bytes).toList());
+        Collections.sort(ordenados);
+        assertEquals(ordenados.size(), ordenados.stream().distinct().count());
+        var secuencia = IntStream.range(0, 10_000).mapToObj(i -> bytes(UuidV7Generator.next())).toList();
+        var copia = new ArrayList<>(secuencia);
+        Collections.sort(copia);
+        assertEquals(secuencia, copia);
+    }
+
+    @Test
+    public void testPersist_AssignsTimeOrderedIds() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ids.add(repository.save(Categoria.builder().nombre("uuid " + i + " " + UUID.randomUUID()).build()).getId());
+        }
+
+        ids.forEach(id -> assertEquals(7, id.version()));
+        var ordenados = ids.stream().sorted((a, b) -> bytes(a).compareTo(bytes(b))).toList();
+        assertEquals(ids, ordenados);
+    }
+}
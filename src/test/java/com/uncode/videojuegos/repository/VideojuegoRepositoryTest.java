@@ -0,0 +1,181 @@
+package com.uncode.videojuegos.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import com.uncode.videojuegos.model.dto.FiltroVideojuego;
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.entity.Estudio;
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoSpecifications;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class VideojuegoRepositoryTest {
+
+    @Autowired
+    private VideojuegoRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void seed(int cantidad) {
+        var lote = UUID.randomUUID();
+        for (int i = 0; i < cantidad; i++) {
+            var categoria = entityManager.persist(Categoria.builder().nombre("categoria " + i + " " + lote).build());
+            var estudio = entityManager.persist(Estudio.builder().nombre("estudio " + i + " " + lote).build());
+            entityManager.persist(videojuego("videojuego " + i + " " + lote, categoria, estudio));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private Videojuego videojuego(String nombre, Categoria categoria, Estudio estudio) {
+        return Videojuego.builder()
+                .nombre(nombre)
+                .rutaimg("image/path.jpg")
+                .descripcion("descripcion")
+                .lanzamiento(LocalDate.now())
+                .categoria(categoria)
+                .estudio(estudio)
+                .build();
+    }
+
+    private long statementsListing() {
+        var videojuegos = repository.findByActivoTrue();
+        videojuegos.forEach(v -> {
+            v.getCategoria().getNombre();
+            v.getEstudio().getNombre();
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    public void testListing_StatementCountIsConstant() {
+        seed(5);
+        var pocos = statementsListing();
+
+        seed(50);
+        var muchos = statementsListing();
+
+        assertEquals(1, pocos);
+        assertEquals(pocos, muchos);
+    }
+
+    @Test
+    public void testPage_LoadsAssociationsInOneStatement() {
+        seed(30);
+
+        var pagina = repository.findByActivoTrueOrderByNombreAscIdAsc(Limit.of(10));
+        var ultimo = pagina.get(pagina.size() - 1);
+        var siguiente = repository.findPaginaSiguiente(ultimo.getNombre(), ultimo.getId(), Limit.of(10));
+        siguiente.forEach(v -> {
+            v.getCategoria().getNombre();
+            v.getEstudio().getNombre();
+        });
+
+        assertEquals(10, siguiente.size());
+        assertTrue(siguiente.get(0).getNombre().compareTo(ultimo.getNombre()) > 0);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testDetail_LoadsAssociationsInOneStatement() {
+        seed(1);
+        UUID id = repository.findByActivoTrue().iterator().next().getId();
+        entityManager.clear();
+        statistics.clear();
+
+        var videojuego = repository.findByIdAndActivoTrue(id).orElseThrow();
+        videojuego.getCategoria().getNombre();
+        videojuego.getEstudio().getNombre();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testActiveNameIsUnique() {
+        var categoria = entityManager.persist(Categoria.builder().nombre("categoria").build());
+        var estudio = entityManager.persist(Estudio.builder().nombre("estudio").build());
+        var eliminado = videojuego("repetido", categoria, estudio);
+        eliminado.setActivo(false);
+        repository.saveAndFlush(eliminado);
+        repository.saveAndFlush(videojuego("repetido", categoria, estudio));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> repository.saveAndFlush(videojuego("repetido", categoria, estudio)));
+    }
+
+    @Test
+    public void testFacetas_OneStatementAndExcludeOwnFilter() {
+        var accion = entityManager.persist(Categoria.builder().nombre("accion").build());
+        var rol = entityManager.persist(Categoria.builder().nombre("rol").build());
+        var estudio = entityManager.persist(Estudio.builder().nombre("estudio").build());
+        for (int i = 0; i < 6; i++) {
+            var videojuego = videojuego("faceta " + i, i < 4 ? accion : rol, estudio);
+            videojuego.setOferta(i % 2 == 0);
+            videojuego.setPrecio(i * 10);
+            entityManager.persist(videojuego);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        var facetas = repository.facetas(FiltroVideojuego.builder().categoriaId(accion.getId()).precioMax(30f).build());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(4, facetas.getTotal());
+        assertEquals(4, facetas.categoria(accion.getId()));
+        assertEquals(0, facetas.categoria(rol.getId()));
+        assertEquals(4, facetas.estudio(estudio.getId()));
+        assertEquals(2, facetas.oferta(true));
+        assertEquals(2, facetas.oferta(false));
+
+        facetas = repository.facetas(FiltroVideojuego.builder().precioMin(40f).build());
+        assertEquals(2, facetas.getTotal());
+        assertEquals(2, facetas.categoria(rol.getId()));
+    }
+
+    @Test
+    public void testFiltro_LoadsAssociationsInOneStatement() {
+        seed(20);
+
+        var filtrados = repository.findBy(
+                VideojuegoSpecifications.filtro(FiltroVideojuego.builder()
+                        .lanzamientoDesde(LocalDate.now().minusDays(1)).build()),
+                query -> query.sortBy(Sort.by("nombre", "id")).limit(5).project("categoria", "estudio").all());
+        filtrados.forEach(v -> {
+            v.getCategoria().getNombre();
+            v.getEstudio().getNombre();
+        });
+
+        assertEquals(5, filtrados.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
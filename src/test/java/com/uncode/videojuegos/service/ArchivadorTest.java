@@ -0,0 +1,159 @@
+package com.uncode.videojuegos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.uncode.videojuegos.model.repository.CategoriaArchivoRepository;
+import com.uncode.videojuegos.model.repository.CategoriaRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoArchivoRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.EstudioService;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.archivo.Archivador;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+public class ArchivadorTest {
+
+    @Autowired
+    private Archivador archivador;
+
+    @Autowired
+    private VideojuegoService service;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private EstudioService estudioService;
+
+    @Autowired
+    private VideojuegoRepository repository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private VideojuegoArchivoRepository archivoRepository;
+
+    @Autowired
+    private CategoriaArchivoRepository categoriaArchivoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private UUID categoriaId;
+    private UUID estudioId;
+    private UUID id;
+
+    @BeforeEach
+    public void setUp() throws ServiceException {
+        var sufijo = UUID.randomUUID().toString();
+        categoriaId = categoriaService.create("archivo " + sufijo);
+        estudioId = estudioService.create("archivo " + sufijo);
+        id = service.create("archivo " + sufijo, "img.jpg", 10f, (short) 1, "descripcion", false,
+                LocalDate.of(2020, 1, 1), categoriaId, estudioId);
+    }
+
+    @Test
+    public void testArchivar_MovesOldInactiveRows() throws ServiceException {
+        service.delete(id);
+        categoriaService.delete(categoriaId);
+        envejecer();
+
+        var simulacro = archivador.simular();
+        assertEquals(1, simulacro.getVideojuegos());
+        assertEquals(0, simulacro.getCategorias());
+        assertTrue(repository.existsById(id));
+
+        var resultado = archivador.archivar();
+
+        assertEquals(1, resultado.getVideojuegos());
+        assertEquals(1, resultado.getCategorias());
+        assertEquals(0, resultado.getEstudios());
+        assertFalse(repository.existsById(id));
+        assertFalse(categoriaRepository.existsById(categoriaId));
+        var archivado = archivoRepository.findById(id).orElseThrow();
+        assertEquals(categoriaId, archivado.getCategoriaId());
+        assertNotNull(archivado.getFechaBaja());
+        assertTrue(categoriaArchivoRepository.existsById(categoriaId));
+        assertEquals(0, archivador.archivar().getVideojuegos());
+    }
+
+    @Test
+    public void testArchivar_KeepsRecentAndReactivatedRows() throws ServiceException {
+        categoriaService.delete(categoriaId);
+        categoriaService.reactivate(categoriaId);
+        envejecer();
+        assertNull(repository.findById(id).orElseThrow().getFechaBaja());
+
+        service.delete(id);
+        archivador.archivar();
+
+        assertTrue(repository.existsById(id));
+        assertFalse(archivoRepository.existsById(id));
+    }
+
+    @Test
+    public void testArchivar_KeepsCascadedRowsWhileParentCanBeReactivated() throws ServiceException {
+        categoriaService.delete(categoriaId);
+        jdbcTemplate.update("update videojuego set fecha_baja = ? where id = ?", LocalDateTime.now().minusYears(1), id);
+
+        archivador.archivar();
+
+        assertTrue(repository.existsById(id));
+        categoriaService.reactivate(categoriaId);
+        assertTrue(repository.findById(id).orElseThrow().isActivo());
+    }
+
+    @Test
+    public void testArchivar_MovesCascadedRowsWithTheirParent() throws ServiceException {
+        categoriaService.delete(categoriaId);
+        envejecer();
+
+        archivador.archivar();
+
+        assertTrue(archivoRepository.existsById(id));
+        assertTrue(categoriaArchivoRepository.existsById(categoriaId));
+        assertFalse(repository.existsById(id));
+    }
+
+    @Test
+    public void testEndpoint_DryRunAndRun() throws Exception {
+        mockMvc.perform(get("/actuator/archivo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.simulacro").value(true))
+                .andExpect(jsonPath("$.videojuegos").isNumber());
+        mockMvc.perform(post("/actuator/archivo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.simulacro").value(false));
+    }
+
+    private void envejecer() {
+        var fecha = LocalDateTime.now().minusYears(1);
+        jdbcTemplate.update("update videojuego set fecha_baja = ? where id = ? and fecha_baja is not null", fecha, id);
+        jdbcTemplate.update("update categoria set fecha_baja = ? where id = ? and fecha_baja is not null", fecha,
+                categoriaId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.uncode.videojuegos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.EstudioService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+public class CacheTransaccionalTest {
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private EstudioService estudioService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    public void testUpdate_ConcurrentReadBeforeCommitDoesNotLeaveStaleEntry() throws Exception {
+        var id = categoriaService.create("cache " + UUID.randomUUID());
+        var anterior = categoriaService.get(id).orElseThrow();
+        var nombre = "cache " + UUID.randomUUID();
+
+        transactionTemplate.execute(status -> {
+            try {
+                categoriaService.update(id, nombre, anterior.getVersion());
+            } catch (ServiceException e) {
+                throw new IllegalStateException(e);
+            }
+            // Otra petición lee antes del commit y vuelve a llenar el caché con la fila vieja
+            var concurrente = CompletableFuture.supplyAsync(() -> leer(id)).join();
+            assertEquals(anterior.getNombre(), concurrente.getNombre());
+            return null;
+        });
+
+        var actual = categoriaService.get(id).orElseThrow();
+        assertEquals(nombre, actual.getNombre());
+        assertNotEquals(anterior.getVersion(), actual.getVersion());
+    }
+
+    @Test
+    public void testUpdate_RollbackKeepsCachedEntry() throws Exception {
+        var id = estudioService.create("cache " + UUID.randomUUID());
+        var anterior = estudioService.get(id).orElseThrow();
+
+        transactionTemplate.execute(status -> {
+            try {
+                estudioService.update(id, "cache " + UUID.randomUUID(), anterior.getVersion());
+            } catch (ServiceException e) {
+                throw new IllegalStateException(e);
+            }
+            status.setRollbackOnly();
+            return null;
+        });
+
+        assertSame(anterior, estudioService.get(id).orElseThrow());
+    }
+
+    private Categoria leer(UUID id) {
+        try {
+            return categoriaService.get(id).orElseThrow();
+        } catch (ServiceException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.uncode.videojuegos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.EstudioService;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.busqueda.IndiceVideojuegos;
+import com.uncode.videojuegos.model.service.exception.ConflictException;
+import com.uncode.videojuegos.model.service.exception.NotFoundException;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+public class CascadaBajaTest {
+
+    @Autowired
+    private VideojuegoService service;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private EstudioService estudioService;
+
+    @Autowired
+    private IndiceVideojuegos indice;
+
+    private String sufijo;
+    private UUID categoriaId;
+    private UUID estudioId;
+    private UUID primero;
+    private UUID segundo;
+
+    @BeforeEach
+    public void setUp() throws ServiceException {
+        sufijo = UUID.randomUUID().toString().replace("-", "");
+        categoriaId = categoriaService.create("cascada " + sufijo);
+        estudioId = estudioService.create("cascada " + sufijo);
+        primero = crear("uno", categoriaId, estudioId);
+        segundo = crear("dos", categoriaId, estudioId);
+    }
+
+    @Test
+    public void testDeleteCategoria_DeactivatesGamesAndIndex() throws ServiceException {
+        assertEquals(2, buscar().size());
+
+        assertEquals(2, categoriaService.delete(categoriaId));
+
+        assertTrue(service.get(primero).isEmpty());
+        assertTrue(service.get(segundo).isEmpty());
+        assertTrue(buscar().isEmpty());
+        assertThrows(NotFoundException.class, () -> categoriaService.delete(categoriaId));
+    }
+
+    @Test
+    public void testReactivateCategoria_RestoresOnlyCascadedGames() throws ServiceException {
+        service.delete(primero);
+        categoriaService.delete(categoriaId);
+
+        assertEquals(1, categoriaService.reactivate(categoriaId));
+
+        assertTrue(service.get(primero).isEmpty());
+        assertTrue(service.get(segundo).isPresent());
+        assertEquals(List.of(segundo), buscar());
+    }
+
+    @Test
+    public void testReactivateCategoria_KeepsGamesOfInactiveEstudio() throws ServiceException {
+        var otroEstudio = estudioService.create("cascada otro " + sufijo);
+        var tercero = crear("tres", categoriaId, otroEstudio);
+        categoriaService.delete(categoriaId);
+        estudioService.delete(estudioId);
+
+        assertEquals(1, categoriaService.reactivate(categoriaId));
+        assertTrue(service.get(tercero).isPresent());
+        assertTrue(service.get(primero).isEmpty());
+
+        assertEquals(2, estudioService.reactivate(estudioId));
+        assertTrue(service.get(primero).isPresent());
+        assertEquals(3, buscar().size());
+    }
+
+    @Test
+    public void testReactivateCategoria_GameNameTaken() throws ServiceException {
+        categoriaService.delete(categoriaId);
+        var otraCategoria = categoriaService.create("cascada otra " + sufijo);
+        crear("uno", otraCategoria, estudioId);
+
+        assertThrows(ConflictException.class, () -> categoriaService.reactivate(categoriaId));
+        assertTrue(service.get(segundo).isEmpty());
+    }
+
+    private UUID crear(String nombre, UUID categoriaId, UUID estudioId) throws ServiceException {
+        return service.create("cascada " + nombre + " " + sufijo, "img.jpg", 10f, (short) 1, "descripcion", false,
+                LocalDate.of(2020, 1, 1), categoriaId, estudioId);
+    }
+
+    private List<UUID> buscar() {
+        return indice.search(sufijo, 10);
+    }
+}
@@ -6,15 +6,22 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.entity.Videojuego;
 import com.uncode.videojuegos.model.repository.CategoriaRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
 import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.exception.ConflictException;
 import com.uncode.videojuegos.model.service.exception.ServiceException;
 import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
 
@@ -23,6 +30,12 @@ public class CategoriaServiceTest {
     @Mock
     private CategoriaRepository repository;
 
+    @Mock
+    private VideojuegoRepository videojuegoRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoriaService service;
 
@@ -39,15 +52,15 @@ public class CategoriaServiceTest {
 
     @Test
     public void testSaveCategoria_Success() throws ServiceException {
-        when(repository.existsByActivoTrueAndNombre(nombre)).thenReturn(false);
         service.create(nombre);
 
-        verify(repository).save(any(Categoria.class));
+        verify(repository).saveAndFlush(any(Categoria.class));
     }
 
     @Test
     public void testSaveCategoria_AlreadyExists() {
-        when(repository.existsByActivoTrueAndNombre(nombre)).thenReturn(true);
+        when(repository.saveAndFlush(any(Categoria.class))).thenThrow(new DataIntegrityViolationException("duplicado",
+                new ConstraintViolationException("duplicado", null, Categoria.UK_NOMBRE)));
 
         ServiceException exception = assertThrows(ServiceException.class, () -> {
             service.create(nombre);
@@ -67,13 +80,35 @@ public class CategoriaServiceTest {
 
     @Test
     public void testUpdateCategoria_Success() throws ServiceException {
-        when(repository.existsByIdNotAndActivoTrueAndNombre(categoriaId, nuevoNombre)).thenReturn(false);
         when(repository.findByIdAndActivoTrue(categoriaId)).thenReturn(Optional.of(categoria));
 
         service.update(categoriaId, nuevoNombre);
 
         assertEquals(nuevoNombre, categoria.getNombre());
-        verify(repository).save(categoria);
+        verify(repository).saveAndFlush(categoria);
+    }
+
+    @Test
+    public void testUpdateCategoria_StaleVersion() {
+        categoria.setVersion(3L);
+        when(repository.findByIdAndActivoTrue(categoriaId)).thenReturn(Optional.of(categoria));
+
+        ServiceException exception = assertThrows(ConflictException.class, () -> {
+            service.update(categoriaId, nuevoNombre, 2L);
+        });
+
+        assertEquals(ServiceExceptionMessages.conflict(Categoria.class), exception.getMessage());
+        verify(repository, never()).saveAndFlush(any(Categoria.class));
+    }
+
+    @Test
+    public void testUpdateCategoria_ConcurrentWrite() {
+        when(repository.findByIdAndActivoTrue(categoriaId)).thenReturn(Optional.of(categoria));
+        when(repository.saveAndFlush(categoria)).thenThrow(new ObjectOptimisticLockingFailureException(Categoria.class, categoriaId));
+
+        assertThrows(ConflictException.class, () -> {
+            service.update(categoriaId, nuevoNombre);
+        });
     }
 
     @Test
@@ -89,7 +124,8 @@ public class CategoriaServiceTest {
 
     @Test
     public void testUpdateCategoria_AlreadyExists() {
-        when(repository.existsByIdNotAndActivoTrueAndNombre(categoriaId, nuevoNombre)).thenReturn(true);
+        when(repository.saveAndFlush(any(Categoria.class))).thenThrow(new DataIntegrityViolationException("duplicado",
+                new ConstraintViolationException("duplicado", null, Categoria.UK_NOMBRE)));
         when(repository.findByIdAndActivoTrue(categoriaId)).thenReturn(Optional.of(categoria));
 
         ServiceException exception = assertThrows(ServiceException.class, () -> {
@@ -110,23 +146,45 @@ public class CategoriaServiceTest {
 
     @Test
     public void testDeleteCategoria_Success() throws ServiceException {
-        when(repository.findByIdAndActivoTrue(categoriaId)).thenReturn(Optional.of(categoria));
+        when(repository.desactivar(categoriaId)).thenReturn(1);
+        when(videojuegoRepository.desactivarPorCategoria(categoriaId)).thenReturn(3);
 
-        service.delete(categoriaId);
+        assertEquals(3, service.delete(categoriaId));
 
-        assertFalse(categoria.isActivo());
-        verify(repository).save(categoria);
+        verify(repository, never()).save(any());
     }
 
     @Test
     public void testDeleteCategoria_NotFound() {
-        when(repository.findByIdAndActivoTrue(categoriaId)).thenReturn(Optional.empty());
+        when(repository.desactivar(categoriaId)).thenReturn(0);
 
         ServiceException exception = assertThrows(ServiceException.class, () -> {
             service.delete(categoriaId);
         });
 
         assertEquals(ServiceExceptionMessages.notFound(Categoria.class), exception.getMessage());
+        verifyNoInteractions(videojuegoRepository);
+    }
+
+    @Test
+    public void testReactivateCategoria_Success() throws ServiceException {
+        when(repository.reactivar(categoriaId)).thenReturn(1);
+        when(videojuegoRepository.reactivarPorCategoria(categoriaId)).thenReturn(2);
+
+        assertEquals(2, service.reactivate(categoriaId));
+    }
+
+    @Test
+    public void testReactivateCategoria_GameNameTaken() {
+        when(repository.reactivar(categoriaId)).thenReturn(1);
+        when(videojuegoRepository.reactivarPorCategoria(categoriaId)).thenThrow(new DataIntegrityViolationException("duplicado",
+                new ConstraintViolationException("duplicado", null, Videojuego.UK_NOMBRE)));
+
+        ServiceException exception = assertThrows(ConflictException.class, () -> {
+            service.reactivate(categoriaId);
+        });
+
+        assertEquals(ServiceExceptionMessages.reactivationConflict(Videojuego.class), exception.getMessage());
     }
 
     @Test
@@ -1,26 +1,34 @@
 package com.uncode.videojuegos.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import com.uncode.videojuegos.model.entity.Estudio;
+import com.uncode.videojuegos.model.entity.Videojuego;
 import com.uncode.videojuegos.model.repository.EstudioRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
 import com.uncode.videojuegos.model.service.EstudioService;
+import com.uncode.videojuegos.model.service.exception.ConflictException;
 import com.uncode.videojuegos.model.service.exception.ServiceException;
 import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
 
@@ -29,6 +37,12 @@ public class EstudioServiceTest {
     @Mock
     private EstudioRepository repository;
 
+    @Mock
+    private VideojuegoRepository videojuegoRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EstudioService service;
 
@@ -45,15 +59,15 @@ public class EstudioServiceTest {
 
     @Test
     public void testSaveEstudio_Success() throws ServiceException {
-        when(repository.existsByActivoTrueAndNombre(nombre)).thenReturn(false);
         service.create(nombre);
 
-        verify(repository).save(any(Estudio.class));
+        verify(repository).saveAndFlush(any(Estudio.class));
     }
 
     @Test
     public void testSaveEstudio_AlreadyExists() {
-        when(repository.existsByActivoTrueAndNombre(nombre)).thenReturn(true);
+        when(repository.saveAndFlush(any(Estudio.class))).thenThrow(new DataIntegrityViolationException("duplicado",
+                new ConstraintViolationException("duplicado", null, Estudio.UK_NOMBRE)));
 
         ServiceException exception = assertThrows(ServiceException.class, () -> {
             service.create(nombre);
@@ -73,13 +87,35 @@ public class EstudioServiceTest {
 
     @Test
     public void testUpdateEstudio_Success() throws ServiceException {
-        when(repository.existsByIdNotAndActivoTrueAndNombre(estudioId, nuevoNombre)).thenReturn(false);
         when(repository.findByIdAndActivoTrue(estudioId)).thenReturn(Optional.of(estudio));
 
         service.update(estudioId, nuevoNombre);
 
         assertEquals(nuevoNombre, estudio.getNombre());
-        verify(repository).save(estudio);
+        verify(repository).saveAndFlush(estudio);
+    }
+
+    @Test
+    public void testUpdateEstudio_StaleVersion() {
+        estudio.setVersion(3L);
+        when(repository.findByIdAndActivoTrue(estudioId)).thenReturn(Optional.of(estudio));
+
+        ServiceException exception = assertThrows(ConflictException.class, () -> {
+            service.update(estudioId, nuevoNombre, 2L);
+        });
+
+        assertEquals(ServiceExceptionMessages.conflict(Estudio.class), exception.getMessage());
+        verify(repository, never()).saveAndFlush(any(Estudio.class));
+    }
+
+    @Test
+    public void testUpdateEstudio_ConcurrentWrite() {
+        when(repository.findByIdAndActivoTrue(estudioId)).thenReturn(Optional.of(estudio));
+        when(repository.saveAndFlush(estudio)).thenThrow(new ObjectOptimisticLockingFailureException(Estudio.class, estudioId));
+
+        assertThrows(ConflictException.class, () -> {
+            service.update(estudioId, nuevoNombre);
+        });
     }
 
     @Test
@@ -95,7 +131,8 @@ public class EstudioServiceTest {
 
     @Test
     public void testUpdateEstudio_AlreadyExists() {
-        when(repository.existsByIdNotAndActivoTrueAndNombre(estudioId, nuevoNombre)).thenReturn(true);
+        when(repository.saveAndFlush(any(Estudio.class))).thenThrow(new DataIntegrityViolationException("duplicado",
+                new ConstraintViolationException("duplicado", null, Estudio.UK_NOMBRE)));
         when(repository.findByIdAndActivoTrue(estudioId)).thenReturn(Optional.of(estudio));
 
         ServiceException exception = assertThrows(ServiceException.class, () -> {
@@ -116,23 +153,45 @@ public class EstudioServiceTest {
 
     @Test
     public void testDeleteEstudio_Success() throws ServiceException {
-        when(repository.findByIdAndActivoTrue(estudioId)).thenReturn(Optional.of(estudio));
+        when(repository.desactivar(estudioId)).thenReturn(1);
+        when(videojuegoRepository.desactivarPorEstudio(estudioId)).thenReturn(3);
 
-        service.delete(estudioId);
+        assertEquals(3, service.delete(estudioId));
 
-        assertFalse(estudio.isActivo());
-        verify(repository).save(estudio);
+        verify(repository, never()).save(any());
     }
 
     @Test
     public void testDeleteEstudio_NotFound() {
-        when(repository.findByIdAndActivoTrue(estudioId)).thenReturn(Optional.empty());
+        when(repository.desactivar(estudioId)).thenReturn(0);
 
         ServiceException exception = assertThrows(ServiceException.class, () -> {
             service.delete(estudioId);
         });
 
         assertEquals(ServiceExceptionMessages.notFound(Estudio.class), exception.getMessage());
+        verifyNoInteractions(videojuegoRepository);
+    }
+
+    @Test
+    public void testReactivateEstudio_Success() throws ServiceException {
+        when(repository.reactivar(estudioId)).thenReturn(1);
+        when(videojuegoRepository.reactivarPorEstudio(estudioId)).thenReturn(2);
+
+        assertEquals(2, service.reactivate(estudioId));
+    }
+
+    @Test
+    public void testReactivateEstudio_GameNameTaken() {
+        when(repository.reactivar(estudioId)).thenReturn(1);
+        when(videojuegoRepository.reactivarPorEstudio(estudioId)).thenThrow(new DataIntegrityViolationException("duplicado",
+                new ConstraintViolationException("duplicado", null, Videojuego.UK_NOMBRE)));
+
+        ServiceException exception = assertThrows(ConflictException.class, () -> {
+            service.reactivate(estudioId);
+        });
+
+        assertEquals(ServiceExceptionMessages.reactivationConflict(Videojuego.class), exception.getMessage());
     }
 
     @Test
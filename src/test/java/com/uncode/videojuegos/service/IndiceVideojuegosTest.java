@@ -0,0 +1,113 @@
+package com.uncode.videojuegos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.uncode.videojuegos.model.dto.VideojuegoIndexado;
+import com.uncode.videojuegos.model.service.busqueda.IndiceVideojuegos;
+import com.uncode.videojuegos.model.service.busqueda.Tokenizador;
+
+public class IndiceVideojuegosTest {
+
+    private IndiceVideojuegos indice;
+
+    private UUID zelda;
+    private UUID mario;
+    private UUID tetris;
+
+    @BeforeEach
+    public void setUp() {
+        indice = new IndiceVideojuegos();
+        zelda = UUID.randomUUID();
+        mario = UUID.randomUUID();
+        tetris = UUID.randomUUID();
+        indice.rebuild(Stream.of(
+                new VideojuegoIndexado(zelda, "The Legend of Zelda", "Aventura épica en el reino de Hyrule"),
+                new VideojuegoIndexado(mario, "Super Mario Odyssey", "Plataformas y aventura con Mario"),
+                new VideojuegoIndexado(tetris, "Tetris", "Rompecabezas clásico de piezas que caen")));
+    }
+
+    @Test
+    public void testTokenizador_FoldsAccentsAndDropsStopwords() {
+        assertEquals(List.of("aventura", "epica", "reino", "hyrule"),
+                Tokenizador.tokens("Aventura ÉPICA en el reino de Hyrule"));
+    }
+
+    @Test
+    public void testSearch_PrefixIgnoresAccents() {
+        assertEquals(List.of(zelda), indice.search("EPIC", 10));
+        assertEquals(List.of(tetris), indice.search("clasico", 10));
+    }
+
+    @Test
+    public void testSearch_NombreRanksAboveDescripcion() {
+        assertEquals(List.of(mario, zelda), indice.search("aventura", 10).stream()
+                .filter(id -> id.equals(mario) || id.equals(zelda)).toList());
+        assertEquals(List.of(mario), indice.search("mario", 10).subList(0, 1));
+    }
+
+    @Test
+    public void testSearch_AllTermsMustMatch() {
+        assertEquals(List.of(mario), indice.search("aventura plataf", 10));
+        assertTrue(indice.search("aventura tetris", 10).isEmpty());
+    }
+
+    @Test
+    public void testSearch_LastWordIsPrefixEvenIfStopword() {
+        var lara = UUID.randomUUID();
+        indice.put(new VideojuegoIndexado(lara, "Lara Croft", "Exploración de tumbas"));
+
+        assertEquals(List.of(lara), indice.search("la", 10));
+    }
+
+    @Test
+    public void testPutAndRemove_UpdateIncrementally() {
+        indice.put(new VideojuegoIndexado(tetris, "Tetris Effect", "Rompecabezas con música"));
+
+        assertEquals(List.of(tetris), indice.search("effect", 10));
+        assertTrue(indice.search("clasico", 10).isEmpty());
+
+        indice.remove(tetris);
+
+        assertTrue(indice.search("tetris", 10).isEmpty());
+        assertEquals(2, indice.size());
+    }
+
+    @Test
+    public void testRebuild_KeepsChangesMadeWhileBuilding() {
+        var lara = UUID.randomUUID();
+        // La lectura devuelve el Tetris viejo y no ve a Lara; los eventos llegan a mitad de camino
+        indice.rebuild(Stream.of(
+                new VideojuegoIndexado(zelda, "The Legend of Zelda", "Aventura épica en el reino de Hyrule"),
+                new VideojuegoIndexado(tetris, "Tetris", "Rompecabezas clásico de piezas que caen"))
+                .peek(v -> {
+                    if (v.getId().equals(zelda)) {
+                        indice.put(new VideojuegoIndexado(lara, "Lara Croft", "Exploración de tumbas"));
+                        indice.put(new VideojuegoIndexado(tetris, "Tetris Effect", "Rompecabezas con música"));
+                        indice.remove(zelda);
+                        assertEquals(List.of(lara), indice.search("lara", 10));
+                    }
+                }));
+
+        assertEquals(List.of(lara), indice.search("lara", 10));
+        assertEquals(List.of(tetris), indice.search("effect", 10));
+        assertTrue(indice.search("zelda", 10).isEmpty());
+        assertEquals(2, indice.size());
+    }
+
+    @Test
+    public void testSearch_FindsExactNameOnLargeIndex() {
+        indice.rebuild(IntStream.range(0, 100_000).mapToObj(i -> new VideojuegoIndexado(UUID.randomUUID(),
+                "Juego " + i, "Descripción número " + i + " con aventura y acción")));
+
+        assertEquals(1, indice.search("juego 42424", 20).size());
+        assertEquals(20, indice.search("aventura", 20).size());
+    }
+}
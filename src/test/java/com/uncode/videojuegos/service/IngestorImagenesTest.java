@@ -0,0 +1,211 @@
+package com.uncode.videojuegos.service;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.sun.net.httpserver.HttpServer;
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.EstudioService;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+
+// Sólo el servidor de prueba se pide por nombre; por IP, 127.0.0.1 tiene que rechazarse
+@SpringBootTest(properties = {
+        "videojuegos.imagenes.ingesta=true",
+        "videojuegos.imagenes.hosts-permitidos=localhost" })
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+public class IngestorImagenesTest {
+
+    @TempDir
+    static Path directorio;
+
+    private static HttpServer servidor;
+    private static final AtomicInteger pedidosPrivados = new AtomicInteger();
+
+    @Autowired
+    private VideojuegoService service;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private EstudioService estudioService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private UUID categoriaId;
+    private UUID estudioId;
+
+    @DynamicPropertySource
+    static void propiedades(DynamicPropertyRegistry registry) {
+        registry.add("videojuegos.imagenes.directorio", directorio::toString);
+    }
+
+    @BeforeAll
+    static void iniciarServidor() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        servidor.createContext("/portada.png", intercambio -> {
+            var png = png(800, 600);
+            intercambio.getResponseHeaders().add("Content-Type", "image/png");
+            intercambio.sendResponseHeaders(200, png.length);
+            try (var cuerpo = intercambio.getResponseBody()) {
+                cuerpo.write(png);
+            }
+        });
+        servidor.createContext("/texto.png", intercambio -> {
+            var texto = "no es una imagen".getBytes();
+            intercambio.sendResponseHeaders(200, texto.length);
+            try (var cuerpo = intercambio.getResponseBody()) {
+                cuerpo.write(texto);
+            }
+        });
+        servidor.createContext("/privada.png", intercambio -> {
+            pedidosPrivados.incrementAndGet();
+            var png = png(10, 10);
+            intercambio.sendResponseHeaders(200, png.length);
+            try (var cuerpo = intercambio.getResponseBody()) {
+                cuerpo.write(png);
+            }
+        });
+        servidor.createContext("/redireccion.png", intercambio -> {
+            intercambio.getResponseHeaders().add("Location",
+                    "http://127.0.0.1:" + servidor.getAddress().getPort() + "/privada.png");
+            intercambio.sendResponseHeaders(302, -1);
+            intercambio.close();
+        });
+        servidor.start();
+    }
+
+    @AfterAll
+    static void detenerServidor() {
+        servidor.stop(0);
+    }
+
+    @BeforeEach
+    public void setUp() throws ServiceException {
+        var sufijo = UUID.randomUUID().toString();
+        categoriaId = categoriaService.create("imagen " + sufijo);
+        estudioId = estudioService.create("imagen " + sufijo);
+    }
+
+    @Test
+    public void testCreate_IngestsImageAndServesThumbnails() throws Exception {
+        var id = crear(url("/portada.png"));
+
+        var imagen = esperarImagen(id);
+
+        var miniatura = mockMvc.perform(get("/imagenes/{nombre}", imagen + "-100.jpg"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + imagen + "-100.jpg\""))
+                .andReturn().getResponse().getContentAsByteArray();
+        var decodificada = ImageIO.read(new ByteArrayInputStream(miniatura));
+        assertEquals(100, decodificada.getWidth());
+        assertEquals(75, decodificada.getHeight());
+
+        mockMvc.perform(get("/imagenes/{nombre}", imagen + ".png"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"));
+        mockMvc.perform(get("/imagenes/{nombre}", imagen + "-100.jpg")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + imagen + "-100.jpg\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void testUpdate_ClearsImageUntilNewOneIsIngested() throws Exception {
+        var id = crear(url("/portada.png"));
+        esperarImagen(id);
+
+        service.update(id, service.get(id).orElseThrow().getNombre(), "otra.jpg", 10f, (short) 1, "descripcion",
+                false, LocalDate.now(), categoriaId, estudioId);
+
+        assertNull(service.get(id).orElseThrow().getImagen());
+    }
+
+    @Test
+    public void testCreate_InvalidImageKeepsOriginalUrl() throws Exception {
+        var id = crear(url("/texto.png"));
+        Thread.sleep(500);
+
+        var videojuego = service.get(id).orElseThrow();
+        assertNull(videojuego.getImagen());
+        assertEquals(url("/texto.png"), videojuego.getRutaimg());
+    }
+
+    @Test
+    public void testCreate_RefusesPrivateAddressAndRedirectToIt() throws Exception {
+        var directo = crear("http://127.0.0.1:" + servidor.getAddress().getPort() + "/privada.png");
+        var redirigido = crear(url("/redireccion.png"));
+        Thread.sleep(500);
+
+        assertNull(service.get(directo).orElseThrow().getImagen());
+        assertNull(service.get(redirigido).orElseThrow().getImagen());
+        assertEquals(0, pedidosPrivados.get());
+    }
+
+    @Test
+    public void testGetImagen_RejectsUnknownNames() throws Exception {
+        mockMvc.perform(get("/imagenes/{nombre}", "0".repeat(64) + "-100.jpg"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/imagenes/{nombre}", "..%2Fapplication.properties"))
+                .andExpect(status().isNotFound());
+    }
+
+    private UUID crear(String rutaimg) throws ServiceException {
+        return service.create("imagen " + UUID.randomUUID(), rutaimg, 10f, (short) 1, "descripcion", false,
+                LocalDate.now(), categoriaId, estudioId);
+    }
+
+    private String esperarImagen(UUID id) throws Exception {
+        for (var i = 0; i < 200; i++) {
+            var imagen = service.get(id).map(Videojuego::getImagen).orElse(null);
+            if (imagen != null)
+                return imagen;
+            Thread.sleep(50);
+        }
+        return fail("La imagen no se procesó");
+    }
+
+    private static String url(String ruta) {
+        return "http://localhost:" + servidor.getAddress().getPort() + ruta;
+    }
+
+    private static byte[] png(int ancho, int alto) throws IOException {
+        var imagen = new BufferedImage(ancho, alto, BufferedImage.TYPE_INT_ARGB);
+        var salida = new ByteArrayOutputStream();
+        ImageIO.write(imagen, "png", salida);
+        return salida.toByteArray();
+    }
+}
@@ -0,0 +1,100 @@
+package com.uncode.videojuegos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.entity.Estudio;
+import com.uncode.videojuegos.model.repository.CategoriaRepository;
+import com.uncode.videojuegos.model.repository.EstudioRepository;
+import com.uncode.videojuegos.model.service.VideojuegoExportService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exportacion.FormatoExportacion;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+public class VideojuegoExportServiceTest {
+
+    private static final int FILAS = Integer.getInteger("export.filas", 20_000);
+
+    @Autowired
+    private VideojuegoExportService service;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EstudioRepository estudioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Categoria categoria;
+    private Estudio estudio;
+
+    @BeforeEach
+    public void setUp() {
+        var sufijo = UUID.randomUUID().toString();
+        categoria = categoriaRepository.save(Categoria.builder().nombre("export " + sufijo).build());
+        estudio = estudioRepository.save(Estudio.builder().nombre("export " + sufijo).build());
+        var filas = new ArrayList<Object[]>(FILAS);
+        for (int i = 0; i < FILAS; i++) {
+            filas.add(new Object[] { UUID.randomUUID(), "export " + i + " " + sufijo, "img.jpg", 9.99f, (short) 1,
+                    "descripcion, con coma", i % 2 == 0, Date.valueOf(LocalDate.now()), true, categoria.getId(),
+                    estudio.getId() });
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into videojuego (id, nombre, rutaimg, precio, cantidad, descripcion, oferta, lanzamiento,
+                    activo, categoria_id, estudio_id)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""", filas);
+    }
+
+    @Test
+    public void testExportCsv_StreamsAllRows() throws ServiceException {
+        var contador = new OutputStream() {
+            long bytes;
+
+            @Override
+            public void write(int b) {
+                bytes++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                bytes += len;
+            }
+        };
+
+        var total = service.export(contador, FormatoExportacion.CSV, categoria.getId(), null, null);
+
+        assertEquals(FILAS, total);
+        assertTrue(contador.bytes > FILAS * 50L);
+    }
+
+    @Test
+    public void testExportJsonLines_Filters() throws ServiceException {
+        var out = new ByteArrayOutputStream();
+
+        var total = service.export(out, FormatoExportacion.JSONL, categoria.getId(), estudio.getId(), true);
+
+        var lineas = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals((FILAS + 1) / 2, total);
+        assertEquals(total, lineas.size());
+        assertTrue(lineas.get(0).contains("\"oferta\":true"));
+        assertTrue(lineas.get(0).contains("\"categoria\":\"" + categoria.getNombre() + "\""));
+    }
+}
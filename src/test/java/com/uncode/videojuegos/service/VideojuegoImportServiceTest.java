@@ -0,0 +1,123 @@
+package com.uncode.videojuegos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.entity.Estudio;
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.repository.CategoriaRepository;
+import com.uncode.videojuegos.model.repository.EstudioRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.VideojuegoImportService;
+import com.uncode.videojuegos.model.service.evento.ImagenPendiente;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@RecordApplicationEvents
+public class VideojuegoImportServiceTest {
+
+    @Autowired
+    private VideojuegoImportService service;
+
+    @Autowired
+    private VideojuegoRepository repository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EstudioRepository estudioRepository;
+
+    @Autowired
+    private ApplicationEvents eventos;
+
+    private String sufijo;
+
+    @BeforeEach
+    public void setUp() {
+        sufijo = UUID.randomUUID().toString();
+        categoriaRepository.save(Categoria.builder().nombre("accion " + sufijo).build());
+        estudioRepository.save(Estudio.builder().nombre("estudio " + sufijo).build());
+    }
+
+    private ByteArrayInputStream archivo(String contenido) {
+        return new ByteArrayInputStream(contenido.replace("$", sufijo).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testImportCsv_ReportsRowErrors() throws ServiceException {
+        var csv = """
+                nombre,rutaimg,precio,cantidad,descripcion,oferta,lanzamiento,categoria,estudio
+                "uno $",img.jpg,10.5,3,"primero, con coma",si,2024-01-01,accion $,estudio $
+                dos $,img.jpg,abc,3,segundo,no,2024-01-01,accion $,estudio $
+                uno $,img.jpg,10,3,repetido,no,2024-01-01,accion $,estudio $
+                tres $,img.jpg,10,3,tercero,no,2024-01-01,inexistente,estudio $
+                cuatro $,img.jpg,10,3,cuarto,no,2024-01-01,accion $,estudio $
+                """;
+
+        var resultado = service.importCsv(archivo(csv));
+
+        assertEquals(2, resultado.getImportados());
+        assertEquals(3, resultado.getErrores().size());
+        assertEquals(3, resultado.getErrores().get(0).getFila());
+        assertEquals(ServiceExceptionMessages.invalid("precio"), resultado.getErrores().get(0).getMensaje());
+        assertEquals(ServiceExceptionMessages.exists(Videojuego.class, "nombre", "uno " + sufijo),
+                resultado.getErrores().get(1).getMensaje());
+        assertEquals(ServiceExceptionMessages.notFound(Categoria.class), resultado.getErrores().get(2).getMensaje());
+        var importado = repository.findNombresActivos(List.of("uno " + sufijo, "cuatro " + sufijo));
+        assertEquals(2, importado.size());
+    }
+
+    @Test
+    public void testImportJson_StreamsArray() throws ServiceException {
+        var json = """
+                [
+                  {"nombre": "json $", "rutaimg": "img.jpg", "precio": 5, "cantidad": 1, "descripcion": "d",
+                   "oferta": true, "lanzamiento": "2023-05-05", "categoria": "accion $", "estudio": "estudio $"},
+                  {"nombre": "json $", "rutaimg": "img.jpg", "precio": 5, "cantidad": 1, "descripcion": "d",
+                   "oferta": false, "lanzamiento": "2023-05-05", "categoria": "accion $", "estudio": "estudio $"}
+                ]
+                """;
+
+        var resultado = service.importJson(archivo(json));
+
+        assertEquals(1, resultado.getImportados());
+        assertEquals(1, resultado.getErrores().size());
+        assertEquals(2, resultado.getErrores().get(0).getFila());
+    }
+
+    @Test
+    public void testImportCsv_RetriesFailedChunkRowByRow() throws ServiceException {
+        var csv = """
+                nombre,rutaimg,precio,cantidad,descripcion,oferta,lanzamiento,categoria,estudio
+                valido uno $,http://imagenes/uno.jpg,10,3,primero,no,2024-01-01,accion $,estudio $
+                largo $,img.jpg,10,3,%s,no,2024-01-01,accion $,estudio $
+                valido dos $,img.jpg,10,3,segundo,no,2024-01-01,accion $,estudio $
+                """.formatted("x".repeat(300));
+
+        var resultado = service.importCsv(archivo(csv));
+
+        assertEquals(2, resultado.getImportados());
+        assertEquals(1, resultado.getErrores().size());
+        assertEquals(3, resultado.getErrores().get(0).getFila());
+        assertEquals(2, repository.findNombresActivos(List.of("valido uno " + sufijo, "valido dos " + sufijo)).size());
+        assertEquals(2, eventos.stream(ImagenPendiente.class).count());
+        assertTrue(eventos.stream(ImagenPendiente.class)
+                .anyMatch(evento -> evento.getRutaimg().equals("http://imagenes/uno.jpg")));
+    }
+}
@@ -0,0 +1,118 @@
+package com.uncode.videojuegos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.entity.Estudio;
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.repository.CategoriaRepository;
+import com.uncode.videojuegos.model.repository.EstudioRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.VideojuegoLoteService;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ConflictException;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+import com.uncode.videojuegos.model.service.lote.CambioVideojuego;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+public class VideojuegoLoteServiceTest {
+
+    @Autowired
+    private VideojuegoLoteService service;
+
+    @Autowired
+    private VideojuegoService videojuegoService;
+
+    @Autowired
+    private VideojuegoRepository repository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EstudioRepository estudioRepository;
+
+    private UUID primero;
+    private UUID segundo;
+    private UUID tercero;
+
+    @BeforeEach
+    public void setUp() throws ServiceException {
+        var sufijo = UUID.randomUUID().toString();
+        var categoria = categoriaRepository.save(Categoria.builder().nombre("lote " + sufijo).build());
+        var estudio = estudioRepository.save(Estudio.builder().nombre("lote " + sufijo).build());
+        primero = crear("lote 1 " + sufijo, categoria, estudio);
+        segundo = crear("lote 2 " + sufijo, categoria, estudio);
+        tercero = crear("lote 3 " + sufijo, categoria, estudio);
+    }
+
+    private UUID crear(String nombre, Categoria categoria, Estudio estudio) throws ServiceException {
+        return videojuegoService.create(nombre, "img.jpg", 30f, (short) 10, "descripcion", false, LocalDate.now(),
+                categoria.getId(), estudio.getId());
+    }
+
+    private Videojuego leer(UUID id) {
+        return repository.findById(id).orElseThrow();
+    }
+
+    @Test
+    public void testUpdate_ReportsOnlyConflictingRows() throws ServiceException {
+        var versionSegundo = leer(segundo).getVersion();
+        videojuegoService.reserve(segundo, (short) 1);
+
+        var resultado = service.update(List.of(
+                CambioVideojuego.builder().id(primero).version(leer(primero).getVersion()).precio(10f).build(),
+                CambioVideojuego.builder().id(segundo).version(versionSegundo).precio(20f).build(),
+                CambioVideojuego.builder().id(tercero).oferta(true).build(),
+                CambioVideojuego.builder().id(UUID.randomUUID()).precio(5f).build(),
+                CambioVideojuego.builder().id(primero).precio(-1f).build()), 0);
+
+        assertEquals(2, resultado.getActualizados());
+        assertEquals(List.of(segundo), resultado.getConflictos());
+        assertEquals(2, resultado.getErrores().size());
+        assertEquals(10f, leer(primero).getPrecio());
+        assertEquals((short) 10, leer(primero).getCantidad());
+        assertEquals(30f, leer(segundo).getPrecio());
+        assertTrue(leer(tercero).isOferta());
+    }
+
+    @Test
+    public void testUpdate_RetriesConflictingRowsOnCurrentVersion() throws ServiceException {
+        var version = leer(segundo).getVersion();
+        videojuegoService.reserve(segundo, (short) 1);
+
+        var resultado = service.update(List.of(
+                CambioVideojuego.builder().id(segundo).version(version).precio(20f).build()), 1);
+
+        assertEquals(1, resultado.getActualizados());
+        assertEquals(1, resultado.getReintentos());
+        assertTrue(resultado.getConflictos().isEmpty());
+        var actualizado = leer(segundo);
+        assertEquals(20f, actualizado.getPrecio());
+        assertEquals((short) 9, actualizado.getCantidad());
+        assertEquals(version + 2, actualizado.getVersion());
+    }
+
+    @Test
+    public void testUpdate_StaleFormIsRejected() throws ServiceException {
+        var videojuego = leer(primero);
+        service.update(List.of(CambioVideojuego.builder().id(primero).precio(15f).build()), 0);
+
+        assertThrows(ConflictException.class, () -> videojuegoService.update(primero, videojuego.getNombre(),
+                videojuego.getRutaimg(), 99f, videojuego.getCantidad(), videojuego.getDescripcion(), false,
+                videojuego.getLanzamiento(), videojuego.getCategoria().getId(), videojuego.getEstudio().getId(),
+                videojuego.getVersion()));
+        assertEquals(15f, leer(primero).getPrecio());
+    }
+}
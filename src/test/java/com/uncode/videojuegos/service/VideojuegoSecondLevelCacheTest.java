@@ -0,0 +1,135 @@
+package com.uncode.videojuegos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.entity.Videojuego;
+import com.uncode.videojuegos.model.repository.CategoriaRepository;
+import com.uncode.videojuegos.model.service.CategoriaService;
+import com.uncode.videojuegos.model.service.EstudioService;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("l2cache")
+public class VideojuegoSecondLevelCacheTest {
+
+    @Autowired
+    private VideojuegoService service;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private EstudioService estudioService;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private UUID categoriaId;
+    private UUID id;
+
+    @BeforeEach
+    public void setUp() throws ServiceException {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var sufijo = UUID.randomUUID().toString();
+        categoriaId = categoriaService.create("cache " + sufijo);
+        var estudioId = estudioService.create("cache " + sufijo);
+        id = service.create("cache " + sufijo, "img.jpg", 30f, (short) 10, "descripcion", false, LocalDate.now(),
+                categoriaId, estudioId);
+    }
+
+    @Test
+    public void testGet_SecondReadIsServedFromCache() throws ServiceException {
+        service.get(id).orElseThrow();
+        var consultas = statistics.getPrepareStatementCount();
+        var aciertos = statistics.getQueryCacheHitCount();
+
+        var videojuego = service.get(id).orElseThrow();
+
+        assertEquals(consultas, statistics.getPrepareStatementCount());
+        assertEquals(aciertos + 1, statistics.getQueryCacheHitCount());
+        assertTrue(entityManagerFactory.getCache().contains(Videojuego.class, id));
+        assertTrue(Hibernate.isInitialized(videojuego.getCategoria()));
+        assertTrue(Hibernate.isInitialized(videojuego.getEstudio()));
+    }
+
+    @Test
+    public void testUpdate_InvalidatesCachedEntity() throws ServiceException {
+        var videojuego = service.get(id).orElseThrow();
+
+        service.update(id, videojuego.getNombre() + " editado", "img.jpg", 45f, (short) 3, "otra", true,
+                videojuego.getLanzamiento(), categoriaId, videojuego.getEstudio().getId());
+
+        var actualizado = service.get(id).orElseThrow();
+        assertEquals(videojuego.getNombre() + " editado", actualizado.getNombre());
+        assertEquals(45f, actualizado.getPrecio());
+        assertEquals(videojuego.getVersion() + 1, actualizado.getVersion());
+    }
+
+    @Test
+    public void testReserve_BulkUpdateInvalidatesCachedEntity() throws ServiceException {
+        service.get(id).orElseThrow();
+
+        service.reserve(id, (short) 4);
+
+        assertEquals(6, service.get(id).orElseThrow().getCantidad());
+    }
+
+    @Test
+    public void testDelete_InvalidatesCachedQuery() throws ServiceException {
+        service.get(id).orElseThrow();
+
+        service.delete(id);
+
+        assertTrue(service.get(id).isEmpty());
+    }
+
+    @Test
+    public void testFindByActivoTrue_CachedUntilTableChanges() throws ServiceException {
+        categoriaRepository.findByActivoTrue();
+        var aciertos = statistics.getQueryCacheHitCount();
+        categoriaRepository.findByActivoTrue();
+        assertEquals(aciertos + 1, statistics.getQueryCacheHitCount());
+
+        var nueva = categoriaService.create("cache " + UUID.randomUUID());
+
+        assertTrue(categoriaRepository.findByActivoTrue().stream().map(Categoria::getId).anyMatch(nueva::equals));
+    }
+
+    @Test
+    public void testMetrics_ExposeRegionRequests() throws ServiceException {
+        service.get(id).orElseThrow();
+        service.get(id).orElseThrow();
+
+        var region = Videojuego.class.getName();
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", region, "result", "hit").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", region, "result", "miss").functionCounter());
+    }
+}
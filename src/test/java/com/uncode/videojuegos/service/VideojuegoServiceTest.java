@@ -5,16 +5,30 @@ import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-
+import org.mockito.Spy;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.uncode.videojuegos.model.dto.Facetas;
+import com.uncode.videojuegos.model.dto.FiltroVideojuego;
 import com.uncode.videojuegos.model.entity.Categoria;
 import com.uncode.videojuegos.model.entity.Estudio;
 import com.uncode.videojuegos.model.entity.Videojuego;
@@ -22,8 +36,14 @@ import com.uncode.videojuegos.model.repository.VideojuegoRepository;
 import com.uncode.videojuegos.model.service.CategoriaService;
 import com.uncode.videojuegos.model.service.EstudioService;
 import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.busqueda.IndiceVideojuegos;
+import com.uncode.videojuegos.model.service.evento.VersionesCatalogo;
+import com.uncode.videojuegos.model.service.evento.VideojuegoModificado;
+import com.uncode.videojuegos.model.service.exception.NotFoundException;
 import com.uncode.videojuegos.model.service.exception.ServiceException;
 import com.uncode.videojuegos.model.service.exception.ServiceExceptionMessages;
+import com.uncode.videojuegos.model.service.exception.ValidationException;
+import com.uncode.videojuegos.model.service.pagina.Cursor;
 
 public class VideojuegoServiceTest {
 
@@ -36,6 +56,18 @@ public class VideojuegoServiceTest {
     @Mock
     private EstudioService estudioService;
 
+    @Mock
+    private IndiceVideojuegos indice;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(VideojuegoService.CACHE_FACETAS);
+
+    @Mock
+    private VersionesCatalogo versiones;
+
     @InjectMocks
     private VideojuegoService service;
 
@@ -54,6 +86,7 @@ public class VideojuegoServiceTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(versiones.etag(Videojuego.class)).thenReturn("W/\"1\"");
         videojuegoId = UUID.randomUUID();
         categoriaId = UUID.randomUUID();
         estudioId = UUID.randomUUID();
@@ -71,18 +104,20 @@ public class VideojuegoServiceTest {
 
     @Test
     public void testSaveVideojuego_Success() throws ServiceException {
-        when(repository.existsByActivoTrueAndNombre(nombre)).thenReturn(false);
         when(categoriaService.get(categoriaId)).thenReturn(Optional.of(Categoria.builder().build()));
         when(estudioService.get(estudioId)).thenReturn(Optional.of(Estudio.builder().build()));
 
         service.create(nombre, rutaimg, precio, cantidad, descripcion, oferta, lanzamiento, categoriaId, estudioId);
 
-        verify(repository).save(any(Videojuego.class));
+        verify(repository).saveAndFlush(any(Videojuego.class));
     }
 
     @Test
-    public void testSaveVideojuego_AlreadyExists() {
-        when(repository.existsByActivoTrueAndNombre(nombre)).thenReturn(true);
+    public void testSaveVideojuego_AlreadyExists() throws ServiceException {
+        when(categoriaService.get(categoriaId)).thenReturn(Optional.of(Categoria.builder().build()));
+        when(estudioService.get(estudioId)).thenReturn(Optional.of(Estudio.builder().build()));
+        when(repository.saveAndFlush(any(Videojuego.class))).thenThrow(new DataIntegrityViolationException("duplicado",
+                new ConstraintViolationException("duplicado", null, Videojuego.UK_NOMBRE)));
 
         ServiceException exception = assertThrows(ServiceException.class, () -> {
             service.create(nombre, rutaimg, precio, cantidad, descripcion, oferta, lanzamiento, categoriaId, estudioId);
@@ -100,9 +135,30 @@ public class VideojuegoServiceTest {
         assertEquals(ServiceExceptionMessages.blank(Videojuego.class, "nombre"), exception.getMessage());
     }
 
+    @Test
+    public void testValidar_CollectsEveryFieldError() {
+        var validacion = service.validar("", rutaimg, -1f, cantidad, null);
+
+        assertFalse(validacion.isValida());
+        assertEquals(List.of("nombre", "precio", "descripcion"), List.copyOf(validacion.getErrores().keySet()));
+        assertEquals(ServiceExceptionMessages.$null(Videojuego.class, "descripcion"),
+                validacion.getErrores().get("descripcion"));
+        assertEquals(ServiceExceptionMessages.blank(Videojuego.class, "nombre"), validacion.getMensaje());
+    }
+
+    @Test
+    public void testSaveVideojuego_InvalidThrowsStacklessValidationException() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            service.create(nombre, rutaimg, -1f, cantidad, descripcion, oferta, lanzamiento, categoriaId, estudioId);
+        });
+
+        assertEquals(Map.of("precio", ServiceExceptionMessages.nonNegative("precio")), exception.getErrores());
+        assertEquals(0, exception.getStackTrace().length);
+        verifyNoInteractions(repository);
+    }
+
     @Test
     public void testUpdateVideojuego_Success() throws ServiceException {
-        when(repository.existsByIdNotAndActivoTrueAndNombre(videojuegoId, nombre)).thenReturn(false);
         when(repository.findByIdAndActivoTrue(videojuegoId)).thenReturn(Optional.of(videojuego));
         when(categoriaService.get(categoriaId)).thenReturn(Optional.of(Categoria.builder().build()));
         when(estudioService.get(estudioId)).thenReturn(Optional.of(Estudio.builder().build()));
@@ -116,7 +172,7 @@ public class VideojuegoServiceTest {
         assertEquals(descripcion, videojuego.getDescripcion());
         assertEquals(oferta, videojuego.isOferta());
         assertEquals(lanzamiento, videojuego.getLanzamiento());
-        verify(repository).save(videojuego);
+        verify(repository).saveAndFlush(videojuego);
     }
 
     @Test
@@ -138,6 +194,7 @@ public class VideojuegoServiceTest {
 
         assertFalse(videojuego.isActivo());
         verify(repository).save(videojuego);
+        verify(eventPublisher).publishEvent(VideojuegoModificado.of(videojuego));
     }
 
     @Test
@@ -151,6 +208,49 @@ public class VideojuegoServiceTest {
         assertEquals(ServiceExceptionMessages.notFound(Videojuego.class), exception.getMessage());
     }
 
+    @Test
+    public void testReserveVideojuego_Success() throws ServiceException {
+        when(repository.reservar(videojuegoId, (short) 2)).thenReturn(1);
+
+        service.reserve(videojuegoId, (short) 2);
+
+        verify(repository, never()).findCantidadActiva(videojuegoId);
+    }
+
+    @Test
+    public void testReserveVideojuego_InsufficientStock() {
+        when(repository.reservar(videojuegoId, (short) 5)).thenReturn(0);
+        when(repository.findCantidadActiva(videojuegoId)).thenReturn(Optional.of((short) 3));
+
+        ServiceException exception = assertThrows(ServiceException.class, () -> {
+            service.reserve(videojuegoId, (short) 5);
+        });
+
+        assertEquals(ServiceExceptionMessages.insufficient("cantidad", 3), exception.getMessage());
+    }
+
+    @Test
+    public void testReserveVideojuego_NotFound() {
+        when(repository.reservar(videojuegoId, (short) 1)).thenReturn(0);
+        when(repository.findCantidadActiva(videojuegoId)).thenReturn(Optional.empty());
+
+        ServiceException exception = assertThrows(NotFoundException.class, () -> {
+            service.reserve(videojuegoId, (short) 1);
+        });
+
+        assertEquals(ServiceExceptionMessages.notFound(Videojuego.class), exception.getMessage());
+    }
+
+    @Test
+    public void testReserveVideojuego_NonPositive() {
+        ServiceException exception = assertThrows(ValidationException.class, () -> {
+            service.reserve(videojuegoId, (short) 0);
+        });
+
+        assertEquals(ServiceExceptionMessages.positive("cantidad"), exception.getMessage());
+        verifyNoInteractions(repository);
+    }
+
     @Test
     public void testGetAllVideojuegos() throws ServiceException {
         when(repository.findByActivoTrue()).thenReturn(Set.of(videojuego));
@@ -170,4 +270,129 @@ public class VideojuegoServiceTest {
         assertTrue(result.isPresent());
         assertEquals(videojuego, result.get());
     }
+
+    @Test
+    public void testSearchVideojuegos_KeepsRankOrder() throws ServiceException {
+        var otro = Videojuego.builder().id(UUID.randomUUID()).nombre("zeta").build();
+        when(indice.search("zel", 10)).thenReturn(List.of(otro.getId(), videojuegoId));
+        when(repository.findByIdInAndActivoTrue(List.of(otro.getId(), videojuegoId)))
+                .thenReturn(List.of(videojuego, otro));
+
+        var resultado = service.search("zel", 10);
+
+        assertEquals(List.of(otro, videojuego), resultado);
+    }
+
+    @Test
+    public void testSearchVideojuegos_NoMatches() throws ServiceException {
+        when(indice.search("nada", 10)).thenReturn(List.of());
+
+        assertTrue(service.search("nada", 10).isEmpty());
+        verify(repository, never()).findByIdInAndActivoTrue(any());
+    }
+
+    @Test
+    public void testGetPageVideojuegos_First() throws ServiceException {
+        var otro = Videojuego.builder().id(UUID.randomUUID()).nombre("zeta").build();
+        when(repository.findByActivoTrueOrderByNombreAscIdAsc(Limit.of(2))).thenReturn(List.of(videojuego, otro));
+
+        var pagina = service.getPage(null, null, 1);
+
+        assertEquals(List.of(videojuego), pagina.getContenido());
+        assertFalse(pagina.hasAnterior());
+        assertEquals(new Cursor(nombre, videojuegoId).encode(), pagina.getSiguiente());
+    }
+
+    @Test
+    public void testGetPageVideojuegos_After() throws ServiceException {
+        var cursor = new Cursor("anterior", UUID.randomUUID());
+        when(repository.findPaginaSiguiente(cursor.getNombre(), cursor.getId(), Limit.of(2)))
+                .thenReturn(List.of(videojuego));
+
+        var pagina = service.getPage(cursor.encode(), null, 1);
+
+        assertEquals(List.of(videojuego), pagina.getContenido());
+        assertEquals(new Cursor(nombre, videojuegoId).encode(), pagina.getAnterior());
+        assertFalse(pagina.hasSiguiente());
+    }
+
+    @Test
+    public void testFilterVideojuegos_ReturnsPageAndFacetas() throws ServiceException {
+        var filtro = FiltroVideojuego.builder().categoriaId(categoriaId).oferta(true).build();
+        var facetas = new Facetas(1, Map.of(categoriaId, 1L), Map.of(estudioId, 1L), Map.of(true, 1L));
+        doReturn(List.of(videojuego)).when(repository)
+                .findBy(ArgumentMatchers.<Specification<Videojuego>>any(), any());
+        when(repository.facetas(filtro)).thenReturn(facetas);
+
+        var catalogo = service.filter(filtro, null, null, 10);
+
+        assertEquals(List.of(videojuego), catalogo.getPagina().getContenido());
+        assertFalse(catalogo.getPagina().hasSiguiente());
+        assertEquals(facetas, catalogo.getFacetas());
+    }
+
+    @Test
+    public void testFilterVideojuegos_FacetasCachedUntilCatalogChanges() throws ServiceException {
+        var filtro = FiltroVideojuego.builder().oferta(true).build();
+        var facetas = new Facetas(1, Map.of(categoriaId, 1L), Map.of(estudioId, 1L), Map.of(true, 1L));
+        doReturn(List.of(videojuego)).when(repository)
+                .findBy(ArgumentMatchers.<Specification<Videojuego>>any(), any());
+        when(repository.facetas(filtro)).thenReturn(facetas);
+
+        service.filter(filtro, null, null, 10);
+        var siguiente = service.filter(filtro, new Cursor(nombre, videojuegoId).encode(), null, 10);
+
+        assertEquals(facetas, siguiente.getFacetas());
+        verify(repository, times(1)).facetas(filtro);
+
+        when(versiones.etag(Videojuego.class)).thenReturn("W/\"2\"");
+        service.filter(filtro, null, null, 10);
+
+        verify(repository, times(2)).facetas(filtro);
+    }
+
+    @Test
+    public void testFilterVideojuegos_InvalidPriceRange() {
+        var filtro = FiltroVideojuego.builder().precioMin(50f).precioMax(10f).build();
+
+        ServiceException exception = assertThrows(ServiceException.class, () -> {
+            service.filter(filtro, null, null, 10);
+        });
+
+        assertEquals(ServiceExceptionMessages.invalid("precio"), exception.getMessage());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    public void testGetPageVideojuegos_InvalidCursor() {
+        ServiceException exception = assertThrows(ServiceException.class, () -> {
+            service.getPage("no-es-un-cursor", null, 10);
+        });
+
+        assertEquals(ServiceExceptionMessages.invalid("cursor"), exception.getMessage());
+    }
+
+    @Test
+    public void testGetAllByIds_KeepsRequestOrder() throws ServiceException {
+        var otro = Videojuego.builder().id(UUID.randomUUID()).nombre("zeta").build();
+        var inexistente = UUID.randomUUID();
+        var ids = List.of(otro.getId(), inexistente, videojuegoId);
+        when(repository.findByIdInAndActivoTrue(ids)).thenReturn(List.of(videojuego, otro));
+
+        assertEquals(List.of(otro, videojuego), service.getAll(ids));
+    }
+
+    @Test
+    public void testGetAllByIds_TooMany() {
+        var ids = Stream.generate(UUID::randomUUID).limit(VideojuegoService.TAMANIO_PAGINA_MAXIMO + 1)
+                .toList();
+
+        ServiceException exception = assertThrows(ServiceException.class, () -> {
+            service.getAll(ids);
+        });
+
+        assertEquals(ServiceExceptionMessages.tooMany("ids", VideojuegoService.TAMANIO_PAGINA_MAXIMO),
+                exception.getMessage());
+        verifyNoInteractions(repository);
+    }
 }
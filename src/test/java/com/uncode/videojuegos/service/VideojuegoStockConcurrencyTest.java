@@ -0,0 +1,107 @@
+package com.uncode.videojuegos.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.uncode.videojuegos.model.entity.Categoria;
+import com.uncode.videojuegos.model.entity.Estudio;
+import com.uncode.videojuegos.model.repository.CategoriaRepository;
+import com.uncode.videojuegos.model.repository.EstudioRepository;
+import com.uncode.videojuegos.model.repository.VideojuegoRepository;
+import com.uncode.videojuegos.model.service.VideojuegoService;
+import com.uncode.videojuegos.model.service.exception.ServiceException;
+
+// Base de datos propia con el pool de Hikari: la embebida de los demás tests
+// abre una conexión por operación y mediría eso en lugar de las reservas.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stock;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=20" })
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+public class VideojuegoStockConcurrencyTest {
+
+    private static final int HILOS = Integer.getInteger("stock.hilos", 200);
+    private static final int INTENTOS = Integer.getInteger("stock.intentos", 25);
+    private static final short STOCK = 2_000;
+
+    @Autowired
+    private VideojuegoService service;
+
+    @Autowired
+    private VideojuegoRepository repository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EstudioRepository estudioRepository;
+
+    private UUID videojuegoId;
+
+    @BeforeEach
+    public void setUp() throws ServiceException {
+        var sufijo = UUID.randomUUID().toString();
+        var categoria = categoriaRepository.save(Categoria.builder().nombre("stock " + sufijo).build());
+        var estudio = estudioRepository.save(Estudio.builder().nombre("stock " + sufijo).build());
+        videojuegoId = service.create("stock " + sufijo, "img.jpg", 59.99f, STOCK, "Lanzamiento esperado", true,
+                LocalDate.now(), categoria.getId(), estudio.getId());
+    }
+
+    @Test
+    public void testReserve_HotTitleNeverOversellsOrLosesUpdates() throws Exception {
+        var reservas = new AtomicInteger();
+        var rechazos = new AtomicInteger();
+        var salida = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(HILOS);
+        var tareas = new ArrayList<Future<?>>();
+        try {
+            for (int h = 0; h < HILOS; h++) {
+                tareas.add(executor.submit(() -> {
+                    salida.await();
+                    for (int i = 0; i < INTENTOS; i++) {
+                        try {
+                            service.reserve(videojuegoId, (short) 1);
+                            reservas.incrementAndGet();
+                        } catch (ServiceException e) {
+                            rechazos.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            salida.countDown();
+            for (var tarea : tareas) {
+                tarea.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int restante = repository.findCantidadActiva(videojuegoId).orElseThrow();
+        assertEquals(Math.min(STOCK, HILOS * INTENTOS), reservas.get());
+        assertEquals(HILOS * INTENTOS - reservas.get(), rechazos.get());
+        assertEquals(STOCK - reservas.get(), restante);
+        assertTrue(restante >= 0);
+    }
+
+    @Test
+    public void testRelease_RestoresReservedUnits() throws ServiceException {
+        service.reserve(videojuegoId, (short) 5);
+        service.release(videojuegoId, (short) 5);
+
+        assertEquals(STOCK, (short) repository.findCantidadActiva(videojuegoId).orElseThrow());
+    }
+}